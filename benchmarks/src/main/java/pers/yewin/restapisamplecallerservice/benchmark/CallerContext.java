@@ -0,0 +1,72 @@
+package pers.yewin.restapisamplecallerservice.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import pers.yewin.restapisamplecallerservice.RestapiSampleCallerServiceApplication;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.benchmark
+ */
+
+public final class CallerContext {
+
+    /**
+     * Start caller service application context (without web server) for benchmarks.
+     * Every receiver url in application.properties is pointed to stub receiver,
+     * and response cache is disabled to measure real outbound api calling.
+     * Extra arguments are same with command line arguments, eg. --callerapp.config.httpclient.engine=simple
+     * startWebServer() also starts tomcat on random port to benchmark whole http request of this service.
+     */
+
+    private static final String RECEIVER_BASE_URL = "http://localhost:8081";
+
+    private CallerContext() {
+    }
+
+    public static ConfigurableApplicationContext start(StubReceiver stubReceiver, String... extraArgs) throws IOException {
+        return start(WebApplicationType.NONE, stubReceiver, extraArgs);
+    }
+
+    // local port is in context.getEnvironment().getProperty("local.server.port")
+    public static ConfigurableApplicationContext startWebServer(StubReceiver stubReceiver, String... extraArgs) throws IOException {
+        List<String> args = new ArrayList<>(Arrays.asList(extraArgs));
+        args.add(0, "--server.port=0");
+        return start(WebApplicationType.SERVLET, stubReceiver, args.toArray(new String[0]));
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType, StubReceiver stubReceiver,
+                                                        String... extraArgs) throws IOException {
+        Properties properties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+
+        List<String> args = new ArrayList<>();
+        for (String name : properties.stringPropertyNames()) {
+            String value = properties.getProperty(name);
+            if (name.endsWith("Url") && value.startsWith(RECEIVER_BASE_URL)) {
+                args.add("--" + name + "=" + stubReceiver.getBaseUrl() + value.substring(RECEIVER_BASE_URL.length()));
+            }
+        }
+        // every benchmark call must reach the stub receiver exactly once, benchmarks which need these features can enable them by extraArgs.
+        args.add("--callerapp.config.cache.enabled=false");
+        args.add("--callerapp.config.singleflight.enabled=false");
+        args.add("--callerapp.config.retry.enabled=false");
+        args.add("--callerapp.config.resilience.enabled=false");
+        args.add("--logging.level.root=WARN"); // don't measure console logging
+        args.addAll(Arrays.asList(extraArgs));
+
+        return new SpringApplicationBuilder(RestapiSampleCallerServiceApplication.class)
+                .web(webApplicationType)
+                .run(args.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,95 @@
+package pers.yewin.restapisamplecallerservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.CallerService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.benchmark
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime}) // throughput and latency percentiles (p50, p90, p99, p99.9, ...)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class CallerServiceBenchmark {
+
+    /**
+     * Benchmark CallerService methods end to end (RestTemplate, interceptors, client engine, json codec) against stub receiver.
+     * Run with different params to compare, eg. -p engine=pooled,simple
+     */
+
+    @Param({"pooled", "simple"})
+    public String engine;
+
+    private StubReceiver stubReceiver;
+    private ConfigurableApplicationContext context;
+    private CallerService callerService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        stubReceiver = StubReceiver.start();
+        context = CallerContext.start(stubReceiver, "--callerapp.config.httpclient.engine=" + engine);
+        callerService = context.getBean(CallerService.class);
+
+        // make sure every benchmark is measuring success path, not error path.
+        verify(callerService.callResponseSingleStringDemo());
+        verify(callerService.callRequestBodyObjectListDemo());
+        verify(callerService.callResponseNestedObjectAndNestedObjectListDemo());
+        verify(callerService.callRequestFileUploadDemo());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stubReceiver.stop();
+    }
+
+    @Benchmark
+    public CallerServiceResponse plainGet() {
+        return callerService.callResponseSingleStringDemo();
+    }
+
+    @Benchmark
+    public CallerServiceResponse jsonPost() {
+        return callerService.callRequestBodyObjectListDemo();
+    }
+
+    @Benchmark
+    public CallerServiceResponse nestedGenericGet() {
+        return callerService.callResponseNestedObjectAndNestedObjectListDemo();
+    }
+
+    @Benchmark
+    public CallerServiceResponse multipartUpload() {
+        return callerService.callRequestFileUploadDemo();
+    }
+
+    private static void verify(CallerServiceResponse response) {
+        if (response.getThirdPartyResponseStatusCode() >= 300) {
+            throw new IllegalStateException("Benchmark call is not success: " + response);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package pers.yewin.restapisamplecallerservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+import pers.yewin.restapisamplecallerservice.model.response.ResponseObjectList;
+import pers.yewin.restapisamplecallerservice.model.response.StatusObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.benchmark
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark {
+
+    /**
+     * Encode and decode time of ResponseObjectList<List<Student>> (responseNestedObjectAndNestedObjectListDemo api) with json and smile.
+     * Mappers are built like spring mvc and RestTemplate message converters (Jackson2ObjectMapperBuilder).
+     * Body size of every format is printed at setup, eg. `java -jar benchmarks/target/benchmarks.jar CodecBenchmark -p students=1000`
+     */
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"10", "1000"})
+    private int students;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private ResponseObjectList<List<Student>> response;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = "smile".equals(format) ? Jackson2ObjectMapperBuilder.smile().build() : Jackson2ObjectMapperBuilder.json().build();
+        TypeReference<ResponseObjectList<List<Student>>> type = new TypeReference<ResponseObjectList<List<Student>>>() { };
+        writer = objectMapper.writerFor(type);
+        reader = objectMapper.readerFor(type);
+
+        List<Student> dataList = new ArrayList<>(students);
+        for (int i = 1; i <= students; i++) {
+            dataList.add(new Student((long) i, "Student " + i, i % 2 == 0 ? "Yangon" : "Mandalay", "+9591234" + (10000 + i),
+                    "Room " + (char) ('A' + i % 5)));
+        }
+        response = new ResponseObjectList<>("2026-10-17T10:15:30", new StatusObject("OK", "Success"), dataList);
+        body = writer.writeValueAsBytes(response);
+        System.out.println(format + " body of " + students + " students: " + body.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ResponseObjectList<List<Student>> decode() throws IOException {
+        return reader.readValue(body);
+    }
+}
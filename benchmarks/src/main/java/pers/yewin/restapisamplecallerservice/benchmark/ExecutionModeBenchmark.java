@@ -0,0 +1,123 @@
+package pers.yewin.restapisamplecallerservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import pers.yewin.restapisamplecallerservice.client.VirtualThreads;
+import pers.yewin.restapisamplecallerservice.config.VirtualThreadConfigurer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.benchmark
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime) // time to finish one burst of concurrent requests
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    /**
+     * Compare platform threads (tomcat thread pool, 200 threads) and virtual threads for blocking api calling.
+     * One benchmark call sends burst of concurrent requests to CallerController and waits all of them,
+     * and every receiver response is delayed, so, most of the time is waiting for receiver (like real slow receiver).
+     * With platform threads, requests over tomcat max threads are waiting in queue, with virtual threads all of them can wait together.
+     * Http client pool is bigger than concurrency and bulkhead, single-flight are disabled, so, only request threads are the limit.
+     * Virtual threads need java 21+, on older jvm 'virtual' param will fail in setup instead of measuring platform threads again.
+     */
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000"})
+    public int concurrency;
+
+    @Param({"50"})
+    public long receiverDelayMillis;
+
+    private StubReceiver stubReceiver;
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("virtual".equals(threads) && !VirtualThreads.isSupported()) {
+            // caller service would silently fall back to platform threads, and result would be wrong
+            throw new IllegalStateException("Virtual threads are not supported on java " + System.getProperty("java.version") + ", run this benchmark with java 21+");
+        }
+        stubReceiver = StubReceiver.start(Duration.ofMillis(receiverDelayMillis));
+        context = CallerContext.startWebServer(stubReceiver,
+                "--callerapp.config.execution.virtual-threads=" + "virtual".equals(threads),
+                "--callerapp.config.httpclient.max-total=" + concurrency,
+                "--callerapp.config.httpclient.max-per-route=" + concurrency,
+                "--server.tomcat.max-connections=" + (concurrency * 2),
+                "--server.tomcat.accept-count=" + concurrency);
+        System.out.println("Virtual threads: " + context.getBean(VirtualThreadConfigurer.class).isVirtualThreads());
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        clientExecutor = Executors.newFixedThreadPool(16);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/caller-service/caller/callResponseObjectDemoAPI"))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+
+        burst(); // make sure every request is success before measuring
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stubReceiver.stop();
+        clientExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(ExecutionModeBenchmark::verify);
+        }
+        CompletableFuture.allOf(responses).join();
+        return responses.length;
+    }
+
+    private static int verify(HttpResponse<?> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Benchmark call is not success, status: " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,97 @@
+package pers.yewin.restapisamplecallerservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.CallerService;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.benchmark
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(64)
+@Fork(1)
+public class Http2EngineBenchmark {
+
+    /**
+     * Compare pooled HTTP/1.1 engine with http2 engine when many CallerService calls are running at the same time.
+     * Stub receiver accepts HTTP/1.1 and h2c, and every response is delayed like real receiver.
+     * Pooled engine is limited to 'connections' connections, so, only that many calls can wait receiver at the same time,
+     * http2 engine sends all calls as streams on one connection.
+     * Resilience bulkhead and single-flight are disabled, so, only the client engine is the limit.
+     * Number of connections which are opened to receiver is printed at the end of every trial.
+     */
+
+    @Param({"pooled", "http2"})
+    public String engine;
+
+    @Param({"8"})
+    public int connections;
+
+    @Param({"20"})
+    public long receiverDelayMillis;
+
+    private StubReceiver stubReceiver;
+    private ConfigurableApplicationContext context;
+    private CallerService callerService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        stubReceiver = StubReceiver.startHttp2(Duration.ofMillis(receiverDelayMillis));
+        context = CallerContext.start(stubReceiver,
+                "--callerapp.config.httpclient.engine=" + engine,
+                "--callerapp.config.httpclient.max-per-route=" + connections,
+                "--callerapp.config.httpclient.connection-request-timeout=30s");
+        callerService = context.getBean(CallerService.class);
+
+        verify(callerService.callResponseSingleStringDemo());
+        verify(callerService.callRequestBodyObjectListDemo());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stubReceiver.stop();
+        System.out.println("receiver connections (" + engine + "): " + stubReceiver.getConnections());
+    }
+
+    @Benchmark
+    public CallerServiceResponse plainGet() {
+        return callerService.callResponseSingleStringDemo();
+    }
+
+    @Benchmark
+    public CallerServiceResponse jsonPost() {
+        return callerService.callRequestBodyObjectListDemo();
+    }
+
+    private static void verify(CallerServiceResponse response) {
+        if (response.getThirdPartyResponseStatusCode() >= 300) {
+            throw new IllegalStateException("Benchmark call is not success: " + response);
+        }
+    }
+}
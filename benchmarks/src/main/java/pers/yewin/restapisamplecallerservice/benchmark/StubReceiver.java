@@ -0,0 +1,177 @@
+package pers.yewin.restapisamplecallerservice.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.benchmark
+ */
+
+public class StubReceiver {
+
+    /**
+     * Small local receiver service for benchmarks, it uses jdk http server and returns canned response for receiver api paths.
+     * Request body is read fully and dropped, so, upload and post benchmarks also send all bytes on the wire.
+     * Real receiver service is not needed and network noise is only loopback.
+     * Response delay can be added to act like slow receiver (eg. database or other api calling inside receiver).
+     * startHttp2() starts reactor netty server which accepts HTTP/1.1 and h2c (upgrade) on same port, to compare http2 engine with others.
+     */
+
+    private static final String STUDENT = "{\"id\":1,\"name\":\"Ye Win\",\"address\":\"Yangon\",\"phone\":\"+959123456789\",\"className\":\"Room A\"}";
+
+    private final long responseDelayMillis;
+    private final AtomicInteger connections = new AtomicInteger(); // only counted by http2 stub
+    private String baseUrl;
+    private Runnable stopAction;
+
+    private StubReceiver(long responseDelayMillis) {
+        this.responseDelayMillis = responseDelayMillis;
+    }
+
+    // start on random free port
+    public static StubReceiver start() throws IOException {
+        return start(Duration.ZERO);
+    }
+
+    // start on random free port, every response will wait responseDelay before sending
+    public static StubReceiver start(Duration responseDelay) throws IOException {
+        // without this, jdk http server sends small response with nagle and post requests will wait ~40ms for delayed ack.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        // default is 200, extra keep-alive connections are closed and caller will get NoHttpResponseException when it reuses them.
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "10000");
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        // delayed responses are waiting (not working), so, stub needs thread for every waiting request to not become the bottleneck.
+        ExecutorService executor = responseDelay.isZero() ? Executors.newFixedThreadPool(64) : Executors.newCachedThreadPool();
+        StubReceiver stubReceiver = new StubReceiver(responseDelay.toMillis());
+        server.setExecutor(executor);
+        server.createContext("/", stubReceiver::handle);
+        server.start();
+        stubReceiver.baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        stubReceiver.stopAction = () -> {
+            server.stop(0);
+            executor.shutdownNow();
+        };
+        return stubReceiver;
+    }
+
+    // start HTTP/1.1 and h2c server on random free port, delay doesn't block any thread
+    public static StubReceiver startHttp2(Duration responseDelay) {
+        StubReceiver stubReceiver = new StubReceiver(responseDelay.toMillis());
+        DisposableServer server = reactor.netty.http.server.HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .http2Settings(settings -> settings.maxConcurrentStreams(10000))
+                .doOnChannelInit((observer, channel, address) -> stubReceiver.connections.incrementAndGet()) // tcp connection, not stream
+                .handle((request, response) -> request.receive().then() // drop request body
+                        .then(Mono.delay(responseDelay))
+                        .then(Mono.defer(() -> {
+                            Response stubResponse = response(request.fullPath());
+                            return response.status(stubResponse.status)
+                                    .header("Content-Type", "application/json")
+                                    .sendByteArray(Mono.just(stubResponse.body))
+                                    .then();
+                        })))
+                .bindNow();
+        stubReceiver.baseUrl = "http://127.0.0.1:" + server.port();
+        stubReceiver.stopAction = server::disposeNow;
+        return stubReceiver;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    // tcp connections which are opened by caller to http2 stub
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public void stop() {
+        stopAction.run();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            while (requestBody.read(buffer) != -1) {
+                // drop request body
+            }
+        }
+
+        if (responseDelayMillis > 0) {
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Response response = response(exchange.getRequestURI().getPath());
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status, response.body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response.body);
+        }
+    }
+
+    // canned response by receiver api path
+    private static Response response(String path) {
+        int status = 200;
+        String body;
+        if (path.contains("requestBodyObjectDemo")) {
+            status = 201;
+            body = "created";
+        } else if (path.contains("NestedObjectList")) {
+            body = nestedObjectList(50);
+        } else if (path.contains("ObjectList")) {
+            body = studentList(50);
+        } else if (path.contains("NestedObject")) {
+            body = "{\"timestamp\":\"2026-10-17 10:00:00\",\"status\":{\"status\":\"OK\",\"message\":\"Success\"}}";
+        } else if (path.contains("ObjectDemo")) {
+            body = STUDENT;
+        } else {
+            body = "\"ok\"";
+        }
+        return new Response(status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String studentList(int size) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            json.append(i == 0 ? "" : ",").append(STUDENT);
+        }
+        return json.append(']').toString();
+    }
+
+    private static String nestedObjectList(int size) {
+        return "{\"timestamp\":\"2026-10-17 10:00:00\",\"status\":{\"status\":\"OK\",\"message\":\"Success\"},\"dataList\":" + studentList(size) + "}";
+    }
+
+    private static final class Response {
+
+        private final int status;
+        private final byte[] body;
+
+        private Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package pers.yewin.restapisamplecallerservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriComponentsBuilder;
+import pers.yewin.restapisamplecallerservice.client.CompiledUriTemplate;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.benchmark
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UriTemplateBenchmark {
+
+    /**
+     * Url building of one api calling with path variables and query params
+     * (requestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo api).
+     *  - builderAndRestTemplate : UriComponentsBuilder.fromHttpUrl + queryParam in service, then RestTemplate expands and encodes that url template again (old code)
+     *  - restTemplateExpand     : query params are already in url template, RestTemplate expands and encodes it (DefaultUriBuilderFactory)
+     *  - compiledExpand         : CompiledUriTemplate, template is parsed at start up, only variables are encoded
+     *  - precomputedUri         : Endpoint.getUri(), uri variables are fixed, so, url is built only once at start up
+     * Run with gc profiler to see allocation of every call, eg. `java -jar benchmarks/target/benchmarks.jar UriTemplateBenchmark -prof gc`
+     */
+
+    private static final String URL = "http://localhost:8081/api/request/accountName/{accName}/card/{card}";
+
+    private DefaultUriBuilderFactory restTemplateUriFactory;
+    private Map<String, Object> uriVariables;
+    private String urlTemplate;
+    private CompiledUriTemplate compiledUriTemplate;
+    private URI precomputedUri;
+
+    @Setup
+    public void setUp() {
+        // same encoding mode with default RestTemplate
+        restTemplateUriFactory = new DefaultUriBuilderFactory();
+        restTemplateUriFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.URI_COMPONENT);
+
+        uriVariables = new LinkedHashMap<>();
+        uriVariables.put("accName", "YE WIN");
+        uriVariables.put("card", "VISA");
+
+        urlTemplate = URL + "?pageNo=0&pageSize=10&sortBy=id&actionType=Bill";
+        compiledUriTemplate = CompiledUriTemplate.compile(urlTemplate);
+        precomputedUri = compiledUriTemplate.expand(uriVariables);
+    }
+
+    @Benchmark
+    public URI builderAndRestTemplate() {
+        String url = UriComponentsBuilder.fromHttpUrl(URL)
+                .queryParam("pageNo", 0)
+                .queryParam("pageSize", 10)
+                .queryParam("sortBy", "id")
+                .queryParam("actionType", "Bill")
+                .build()
+                .toUriString();
+        return restTemplateUriFactory.expand(url, uriVariables);
+    }
+
+    @Benchmark
+    public URI restTemplateExpand() {
+        return restTemplateUriFactory.expand(urlTemplate, uriVariables);
+    }
+
+    @Benchmark
+    public URI compiledExpand() {
+        return compiledUriTemplate.expand(uriVariables);
+    }
+
+    @Benchmark
+    public URI precomputedUri() {
+        return precomputedUri;
+    }
+}
@@ -1,13 +1,37 @@
 package pers.yewin.restapisamplecallerservice;
 
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.netty.channel.ChannelOption;
 import org.springframework.boot.SpringApplication;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.client.RestTemplate;
 import pers.yewin.restapisamplecallerservice.apierrorhandler.CustomizeRestTemplateErrorHandler;
+import pers.yewin.restapisamplecallerservice.client.ClientEngine;
+import pers.yewin.restapisamplecallerservice.codec.JsonCodec;
+import pers.yewin.restapisamplecallerservice.config.AggregateConfig;
+import pers.yewin.restapisamplecallerservice.config.AsyncConfig;
+import pers.yewin.restapisamplecallerservice.config.BatchConfig;
+import pers.yewin.restapisamplecallerservice.config.BulkUploadConfig;
+import pers.yewin.restapisamplecallerservice.config.HttpClientConfig;
+import pers.yewin.restapisamplecallerservice.interceptor.BodyBufferingInterceptor;
+import pers.yewin.restapisamplecallerservice.tracing.TracingTaskDecorator;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
+import java.util.List;
 
 @SpringBootApplication
 public class RestapiSampleCallerServiceApplication {
@@ -18,16 +42,148 @@ public class RestapiSampleCallerServiceApplication {
 
     // inject restTemplate as bean type avoid not to instantiate in every class and methods.
     @Bean
-    public RestTemplate restTemplateBean(){
+    @Primary // this is default RestTemplate when there is no @Qualifier
+    public RestTemplate restTemplateBean(List<ClientEngine> clientEngines, HttpClientConfig httpClientConfig,
+                                         ObjectProvider<ClientHttpRequestInterceptor> interceptors, JsonCodec jsonCodec,
+                                         MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter){
 //        return new RestTemplate();
 
+        // new RestTemplate() will use HttpURLConnection without connection pool,
+        // so, I pick the client engine (http client library) by name from application.properties and add it into RestTemplate.
+        ClientEngine clientEngine = ClientEngine.find(clientEngines, httpClientConfig.getEngine());
+
         // if you don't catch for api error status code, above code line is enough,
         // but if you want to catch for error from api response, you need below code.
-        RestTemplate restTemplate = new RestTemplate();
+        RestTemplate restTemplate = new RestTemplate(clientEngine.getRequestFactory());
         restTemplate.setErrorHandler(new CustomizeRestTemplateErrorHandler()); // add our customizeRestTemplateErrorHandler class in RestTemplate.
+        useSharedObjectMapper(restTemplate, jsonCodec, smileHttpMessageConverter);
+        // add all interceptor beans (response cache, etc) by their @Order, first interceptor will run first.
+        interceptors.orderedStream().forEach(restTemplate.getInterceptors()::add);
+        return restTemplate;
+    }
+
+    // RestTemplate for large responses which are read element by element from response stream.
+    // interceptors which read whole response body into memory (response cache, single-flight) are not added in this RestTemplate.
+    // default error handler is used, because error status can't be returned inside the stream, so, it's better to throw the error.
+    @Bean
+    public RestTemplate streamingRestTemplate(List<ClientEngine> clientEngines, HttpClientConfig httpClientConfig,
+                                              ObjectProvider<ClientHttpRequestInterceptor> interceptors, JsonCodec jsonCodec,
+                                              MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter){
+
+        RestTemplate restTemplate = new RestTemplate(ClientEngine.find(clientEngines, httpClientConfig.getEngine()).getRequestFactory());
+        useSharedObjectMapper(restTemplate, jsonCodec, smileHttpMessageConverter);
+        interceptors.orderedStream()
+                .filter(interceptor -> !(interceptor instanceof BodyBufferingInterceptor))
+                .forEach(restTemplate.getInterceptors()::add);
         return restTemplate;
     }
 
+    // new RestTemplate() creates own ObjectMapper, so, I replace it with shared ObjectMapper from jsonCodec to reuse same serializer caches.
+    // same for smile converter which is added by new RestTemplate() because jackson smile is in the classpath.
+    private void useSharedObjectMapper(RestTemplate restTemplate, JsonCodec jsonCodec, MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter) {
+        restTemplate.getMessageConverters().replaceAll(converter ->
+                converter instanceof MappingJackson2SmileHttpMessageConverter ? smileHttpMessageConverter : converter);
+        restTemplate.getMessageConverters().stream()
+                .filter(converter -> converter instanceof MappingJackson2HttpMessageConverter)
+                .forEach(converter -> ((MappingJackson2HttpMessageConverter) converter).setObjectMapper(jsonCodec.getObjectMapper()));
+    }
+
+    // Smile (binary json) message converter with same spring.jackson.* settings as json.
+    // spring boot uses it instead of its default smile converter, so, our apis answer with smile for 'Accept: application/x-jackson-smile'.
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder){
+        return new MappingJackson2SmileHttpMessageConverter(jackson2ObjectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    // inject WebClient as bean for non-blocking api calling, it uses same pool size and timeouts with RestTemplate client engine.
+    @Bean
+    public WebClient webClientBean(WebClient.Builder webClientBuilder, HttpClientConfig httpClientConfig){
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("receiver-service")
+                .maxConnections(httpClientConfig.getMaxTotal())
+                .pendingAcquireTimeout(httpClientConfig.getConnectionRequestTimeout())
+                .maxIdleTime(httpClientConfig.getIdleTimeout())
+                .maxLifeTime(httpClientConfig.getTimeToLive())
+                .evictInBackground(httpClientConfig.getIdleTimeout())
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) httpClientConfig.getConnectTimeout().toMillis())
+                .responseTimeout(httpClientConfig.getReadTimeout());
+
+        return webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+
+    // bounded executor for aggregate api, it will reject new calls instead of growing without limit when queue is full.
+    @Bean
+    public ThreadPoolTaskExecutor aggregateExecutor(AggregateConfig aggregateConfig, TracingTaskDecorator tracingTaskDecorator){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(aggregateConfig.getCorePoolSize());
+        executor.setMaxPoolSize(aggregateConfig.getMaxPoolSize());
+        executor.setQueueCapacity(aggregateConfig.getQueueCapacity());
+        executor.setThreadNamePrefix("aggregate-");
+        executor.setTaskDecorator(tracingTaskDecorator); // keep trace id of the request
+        return executor;
+    }
+
+    // bounded executor for async apis (/caller/async), api callings run here instead of tomcat threads.
+    @Bean
+    public ThreadPoolTaskExecutor asyncCallerExecutor(AsyncConfig asyncConfig, TracingTaskDecorator tracingTaskDecorator){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncConfig.getCorePoolSize());
+        executor.setMaxPoolSize(asyncConfig.getMaxPoolSize());
+        executor.setQueueCapacity(asyncConfig.getQueueCapacity());
+        executor.setThreadNamePrefix("async-caller-");
+        executor.setTaskDecorator(tracingTaskDecorator); // keep trace id of the request
+        return executor;
+    }
+
+    // bounded executor for bulk upload chunks, pool size is the parallelism limit of chunk uploading.
+    @Bean
+    public ThreadPoolTaskExecutor bulkUploadExecutor(BulkUploadConfig bulkUploadConfig, TracingTaskDecorator tracingTaskDecorator){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(bulkUploadConfig.getParallelism());
+        executor.setMaxPoolSize(bulkUploadConfig.getParallelism());
+        executor.setQueueCapacity(bulkUploadConfig.getQueueCapacity());
+        executor.setThreadNamePrefix("bulkupload-");
+        executor.setTaskDecorator(tracingTaskDecorator); // keep trace id of the request
+        return executor;
+    }
+
+    // one thread timer which gives failed chunks back to bulk upload executor after retry backoff, upload threads never sleep.
+    @Bean
+    public ThreadPoolTaskScheduler bulkUploadRetryScheduler(){
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("bulkupload-retry-");
+        return scheduler;
+    }
+
+
+    // bounded executor for batch apis (/caller/batch), pool size is max batches which are sending at the same time.
+    @Bean
+    public ThreadPoolTaskExecutor batchSenderExecutor(BatchConfig batchConfig, TracingTaskDecorator tracingTaskDecorator){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchConfig.getSenders());
+        executor.setMaxPoolSize(batchConfig.getSenders());
+        executor.setQueueCapacity(batchConfig.getQueueCapacity());
+        executor.setThreadNamePrefix("batch-sender-");
+        executor.setTaskDecorator(tracingTaskDecorator); // keep trace id of the request which fills or flushes the batch
+        executor.setWaitForTasksToCompleteOnShutdown(true); // last batches are still sent on shutdown
+        executor.setAwaitTerminationSeconds((int) batchConfig.getTimeout().getSeconds());
+        return executor;
+    }
+
+    // one thread timer which sends batches that are not full after max delay
+    @Bean
+    public ThreadPoolTaskScheduler batchFlushScheduler(){
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("batch-flush-");
+        scheduler.setRemoveOnCancelPolicy(true); // timers of full batches are cancelled, don't keep them in the queue
+        return scheduler;
+    }
+
 
     // for global restTemplate extra configuration
     /*@Bean
@@ -0,0 +1,55 @@
+package pers.yewin.restapisamplecallerservice.actuator;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.interceptor.ResponseCacheInterceptor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.actuator
+ */
+
+@Component // create bean class
+@Endpoint(id = "responsecache") // actuator endpoint -> /actuator/responsecache
+public class ResponseCacheEndpoint {
+
+    /**
+     * GET /actuator/responsecache will show hit, miss and eviction counters of response cache.
+     * DELETE /actuator/responsecache will clear all cached responses.
+     * Clearing cache sends all requests to receiver at the same time (cache stampede), and there is no security in this project,
+     * so, this endpoint is not in default web exposure. Expose it only behind security (eg. spring security with admin role or management port
+     * which can be reached only from internal network).
+     */
+
+    private final ResponseCacheInterceptor responseCacheInterceptor;
+
+    public ResponseCacheEndpoint(ResponseCacheInterceptor responseCacheInterceptor) {
+        this.responseCacheInterceptor = responseCacheInterceptor;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        CacheStats stats = responseCacheInterceptor.getStats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", responseCacheInterceptor.getEstimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("evictionWeight", stats.evictionWeight());
+        return result;
+    }
+
+    @DeleteOperation
+    public void clear() {
+        responseCacheInterceptor.invalidateAll();
+    }
+}
@@ -0,0 +1,66 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.config.ReceiverServiceCredentialsConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+public class BasicAuthHeader {
+
+    /**
+     * Authorization header value (Basic base64(username:password)) of receiver service.
+     * headers.setBasicAuth(username, password) encodes same username and password with Base64 in every api calling,
+     * so, here, value is encoded once and same String is returned until credentials are changed.
+     * If credentials are rotated at runtime (eg. properties are bound again or secret rotation job calls the setters of
+     * ReceiverServiceCredentialsConfig), the new credentials are encoded at next api calling, no restart is needed.
+     */
+
+    private final ReceiverServiceCredentialsConfig credentials;
+    private volatile Encoded encoded; // username, password and value are swapped together
+
+    public BasicAuthHeader(ReceiverServiceCredentialsConfig credentials) {
+        this.credentials = credentials;
+    }
+
+    public String getValue() {
+        String username = credentials.getUsername();
+        String password = credentials.getPassword();
+        Encoded current = encoded;
+        if (current == null || !current.isSame(username, password)) {
+            current = new Encoded(username, password);
+            encoded = current;
+            log.info("Basic auth header of receiver service is encoded, username: {}", username);
+        }
+        return current.value;
+    }
+
+    private static final class Encoded {
+
+        private final String username;
+        private final String password;
+        private final String value;
+
+        private Encoded(String username, String password) {
+            this.username = username;
+            this.password = password;
+            this.value = "Basic " + HttpHeaders.encodeBasicAuth(username, password, StandardCharsets.UTF_8);
+        }
+
+        // same String instances are given by config until they are changed, so, equals is usually only the reference check.
+        private boolean isSame(String username, String password) {
+            return Objects.equals(this.username, username) && Objects.equals(this.password, password);
+        }
+    }
+}
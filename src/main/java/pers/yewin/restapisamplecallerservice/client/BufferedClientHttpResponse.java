@@ -0,0 +1,98 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.UnknownHttpStatusCodeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public class BufferedClientHttpResponse implements ClientHttpResponse {
+
+    /**
+     * This class keeps the whole response (status, headers and body bytes) in memory,
+     * so, same response can be read again by many callers, eg. from response cache or shared in-flight call.
+     * body bytes are never changed after created, so, every copy can share same byte array.
+     */
+
+    private final int rawStatusCode;
+    private final String statusText;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    private final InputStream bodyStream;
+
+    public BufferedClientHttpResponse(int rawStatusCode, String statusText, HttpHeaders headers, byte[] body) {
+        this.rawStatusCode = rawStatusCode;
+        this.statusText = statusText;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.body = body;
+        this.bodyStream = new ByteArrayInputStream(body);
+    }
+
+    // read all data from real response and close it, so, connection will go back to the pool.
+    public static BufferedClientHttpResponse of(ClientHttpResponse response) throws IOException {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            return new BufferedClientHttpResponse(response.getRawStatusCode(), response.getStatusText(), headers,
+                    StreamUtils.copyToByteArray(response.getBody()));
+        } finally {
+            response.close();
+        }
+    }
+
+    // new response with same data and new body stream which can read from beginning.
+    public BufferedClientHttpResponse copy() {
+        return new BufferedClientHttpResponse(rawStatusCode, statusText, headers, body);
+    }
+
+    public byte[] getBodyBytes() {
+        return body;
+    }
+
+    // same with spring error handler, non-standard status code (eg. 499, 520) throws UnknownHttpStatusCodeException, use getRawStatusCode for them.
+    @Override
+    public HttpStatus getStatusCode() {
+        HttpStatus status = HttpStatus.resolve(rawStatusCode);
+        if (status == null) {
+            throw new UnknownHttpStatusCodeException(rawStatusCode, statusText, headers, body, null);
+        }
+        return status;
+    }
+
+    @Override
+    public int getRawStatusCode() {
+        return rawStatusCode;
+    }
+
+    @Override
+    public String getStatusText() {
+        return statusText;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return bodyStream;
+    }
+
+    @Override
+    public void close() {
+        // nothing to close, all data is in memory.
+    }
+}
@@ -0,0 +1,39 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public interface ClientEngine {
+
+    /**
+     * Client engine is the http client library which RestTemplate will use to send the request on the wire.
+     * Every engine is a bean which is created only when its name is in 'callerapp.config.httpclient.engine' property,
+     * so, connection pool and threads of other engines are never created. RestTemplate bean will pick that engine by name.
+     * @see pers.yewin.restapisamplecallerservice.RestapiSampleCallerServiceApplication#restTemplateBean method
+     */
+
+    // engine name which is used in 'callerapp.config.httpclient.engine' property.
+    String getName();
+
+    // request factory which will be added into RestTemplate.
+    ClientHttpRequestFactory getRequestFactory();
+
+    // request factory which sends request body directly to the socket (chunked) without buffering, eg. for large file upload.
+    ClientHttpRequestFactory getStreamingRequestFactory();
+
+    // find engine by name from 'callerapp.config.httpclient.engine' property.
+    static ClientEngine find(List<ClientEngine> clientEngines, String name) {
+        return clientEngines.stream()
+                .filter(engine -> engine.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown client engine: " + name));
+    }
+}
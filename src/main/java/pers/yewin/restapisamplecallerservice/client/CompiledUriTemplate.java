@@ -0,0 +1,172 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.web.util.UriUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public final class CompiledUriTemplate {
+
+    /**
+     * Url template like http://localhost:8081/api/{nameValue}?actionType=bill which is parsed only once.
+     * RestTemplate (and UriComponentsBuilder) parses url string with regex, expands {name} and encodes every component again in every api calling.
+     * This class splits the template into literal parts and variable names at start up, and literal parts are encoded at that time too.
+     * So, expand only needs to encode variable values and join the parts with one StringBuilder.
+     *
+     * Variable values are encoded as one path segment in path (so, '/' in value is encoded) and strictly in query string,
+     * every character except unreserved ones is encoded there, so, '+', '&' and '=' in value can't change the query string.
+     * Fragment (#) is not supported, receiver apis never use it.
+     * @see EndpointRegistry
+     */
+
+    private final String template;
+    private final String[] literals; // encoded literal parts, always one more than variables
+    private final String[] variableNames;
+    private final boolean[] queryVariables; // true if variable is in query string
+    private final int literalLength;
+
+    private CompiledUriTemplate(String template, List<String> literals, List<String> variableNames, List<Boolean> queryVariables) {
+        this.template = template;
+        this.literals = literals.toArray(new String[0]);
+        this.variableNames = variableNames.toArray(new String[0]);
+        this.queryVariables = new boolean[queryVariables.size()];
+        for (int i = 0; i < this.queryVariables.length; i++) {
+            this.queryVariables[i] = queryVariables.get(i);
+        }
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    // throw IllegalArgumentException for template which is not closed ({name without }) or has fragment
+    public static CompiledUriTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> variableNames = new ArrayList<>();
+        List<Boolean> queryVariables = new ArrayList<>();
+
+        StringBuilder encoded = new StringBuilder(); // encoded literal part until next variable
+        StringBuilder raw = new StringBuilder(); // literal characters which are not encoded yet
+        boolean inQuery = false;
+        int index = 0;
+        while (index < template.length()) {
+            char current = template.charAt(index);
+            if (current == '{') {
+                int end = template.indexOf('}', index);
+                if (end < 0) {
+                    throw new IllegalArgumentException("url template " + template + " has no closing '}' at " + index);
+                }
+                literals.add(encoded.append(encodeLiteral(raw, inQuery)).toString());
+                encoded.setLength(0);
+                raw.setLength(0);
+                // {name:regex} is allowed by spring, regex is only for matching, so, it is ignored here.
+                String variable = template.substring(index + 1, end);
+                int regexStart = variable.indexOf(':');
+                variableNames.add((regexStart < 0 ? variable : variable.substring(0, regexStart)).trim());
+                queryVariables.add(inQuery);
+                index = end + 1;
+            } else if (current == '#') {
+                throw new IllegalArgumentException("url template " + template + " has fragment, it is not supported");
+            } else if (current == '?' && !inQuery) {
+                // path is finished, the rest is encoded as query string
+                encoded.append(encodeLiteral(raw, false)).append('?');
+                raw.setLength(0);
+                inQuery = true;
+                index++;
+            } else {
+                raw.append(current);
+                index++;
+            }
+        }
+        literals.add(encoded.append(encodeLiteral(raw, inQuery)).toString());
+        return new CompiledUriTemplate(template, literals, variableNames, queryVariables);
+    }
+
+    // encode only illegal characters, same with EncodingMode.URI_COMPONENT of RestTemplate, '=' and '&' of query string are kept.
+    private static String encodeLiteral(CharSequence literal, boolean inQuery) {
+        if (!inQuery) {
+            return UriUtils.encodePath(literal.toString(), StandardCharsets.UTF_8);
+        }
+        StringBuilder encoded = new StringBuilder(literal.length() + 16);
+        int start = 0;
+        for (int i = 0; i <= literal.length(); i++) {
+            if (i == literal.length() || literal.charAt(i) == '&' || literal.charAt(i) == '=') {
+                encoded.append(UriUtils.encodeQueryParam(literal.subSequence(start, i).toString(), StandardCharsets.UTF_8));
+                if (i < literal.length()) {
+                    encoded.append(literal.charAt(i));
+                }
+                start = i + 1;
+            }
+        }
+        return encoded.toString();
+    }
+
+    // fixed query params are values (not template), so, every character except unreserved ones is encoded ('&', '=', '+', '%' and '{' too),
+    // same with query variables in expand, and they are added to the end of url template only once here.
+    public CompiledUriTemplate withQueryParams(Map<String, String> queryParams) {
+        if (queryParams.isEmpty()) {
+            return this;
+        }
+        StringBuilder query = new StringBuilder(literals[literals.length - 1]);
+        StringBuilder newTemplate = new StringBuilder(template); // not encoded, only for toString
+        char separator = template.indexOf('?') < 0 ? '?' : '&';
+        for (Map.Entry<String, String> queryParam : queryParams.entrySet()) {
+            String value = queryParam.getValue() == null ? "" : queryParam.getValue();
+            query.append(separator)
+                    .append(UriUtils.encode(queryParam.getKey(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(UriUtils.encode(value, StandardCharsets.UTF_8));
+            newTemplate.append(separator).append(queryParam.getKey()).append('=').append(value);
+            separator = '&';
+        }
+        List<String> newLiterals = new ArrayList<>(Arrays.asList(literals));
+        newLiterals.set(newLiterals.size() - 1, query.toString());
+        List<Boolean> newQueryVariables = new ArrayList<>();
+        for (boolean queryVariable : queryVariables) {
+            newQueryVariables.add(queryVariable);
+        }
+        return new CompiledUriTemplate(newTemplate.toString(), newLiterals, Arrays.asList(variableNames), newQueryVariables);
+    }
+
+    // throw IllegalArgumentException if value of any variable is not in the map, null value is expanded as empty string.
+    public URI expand(Map<String, ?> uriVariables) {
+        return URI.create(expandToString(uriVariables));
+    }
+
+    public String expandToString(Map<String, ?> uriVariables) {
+        if (variableNames.length == 0) {
+            return literals[0];
+        }
+        StringBuilder url = new StringBuilder(literalLength + variableNames.length * 16);
+        for (int i = 0; i < variableNames.length; i++) {
+            url.append(literals[i]);
+            if (!uriVariables.containsKey(variableNames[i])) {
+                throw new IllegalArgumentException("Map has no value for '" + variableNames[i] + "'");
+            }
+            Object value = uriVariables.get(variableNames[i]);
+            String text = value == null ? "" : value.toString();
+            // '+' is kept by encodeQueryParam and receiver reads it as space, so, query value is encoded strictly.
+            url.append(queryVariables[i] ? UriUtils.encode(text, StandardCharsets.UTF_8)
+                    : UriUtils.encodePathSegment(text, StandardCharsets.UTF_8));
+        }
+        return url.append(literals[variableNames.length]).toString();
+    }
+
+    public List<String> getVariableNames() {
+        return Collections.unmodifiableList(Arrays.asList(variableNames));
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
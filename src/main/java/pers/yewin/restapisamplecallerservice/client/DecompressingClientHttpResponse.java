@@ -0,0 +1,158 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public class DecompressingClientHttpResponse implements ClientHttpResponse {
+
+    /**
+     * Response wrapper for gzip or deflate response body.
+     * Body is decompressed while it is read (jackson parser reads from decompressing stream), whole body is never decompressed into memory.
+     * Content-Encoding and Content-Length headers are removed, because they are for compressed body, not the body which we give.
+     * Compressed and decompressed bytes are counted and listener is called once when RestTemplate closes the response.
+     */
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @FunctionalInterface
+    public interface CloseListener {
+        void onClose(long compressedBytes, long decompressedBytes);
+    }
+
+    private final ClientHttpResponse delegate;
+    private final String encoding;
+    private final CloseListener closeListener;
+    private final HttpHeaders headers;
+
+    private CountingInputStream compressedBody;
+    private CountingInputStream body;
+    private Inflater inflater; // only for deflate, InflaterInputStream doesn't end inflater which is given from outside
+    private boolean closed;
+
+    // encoding is gzip, x-gzip or deflate
+    public DecompressingClientHttpResponse(ClientHttpResponse delegate, String encoding, CloseListener closeListener) {
+        this.delegate = delegate;
+        this.encoding = encoding;
+        this.closeListener = closeListener;
+
+        HttpHeaders decompressedHeaders = new HttpHeaders();
+        decompressedHeaders.putAll(delegate.getHeaders());
+        decompressedHeaders.remove(HttpHeaders.CONTENT_ENCODING);
+        decompressedHeaders.remove(HttpHeaders.CONTENT_LENGTH);
+        this.headers = HttpHeaders.readOnlyHttpHeaders(decompressedHeaders);
+    }
+
+    @Override
+    public HttpStatus getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public int getRawStatusCode() throws IOException {
+        return delegate.getRawStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            compressedBody = new CountingInputStream(delegate.getBody());
+            // decoder reads header of compressed data at creation, so, empty body (eg. HEAD, 204) is given as it is.
+            PushbackInputStream wire = new PushbackInputStream(compressedBody, 2);
+            int first = wire.read();
+            if (first == -1) {
+                body = new CountingInputStream(wire);
+            } else {
+                int second = wire.read();
+                if (second != -1) {
+                    wire.unread(second);
+                }
+                wire.unread(first);
+                body = new CountingInputStream(decoder(wire, first, second));
+            }
+        }
+        return body;
+    }
+
+    private InputStream decoder(InputStream wire, int first, int second) throws IOException {
+        if ("deflate".equalsIgnoreCase(encoding)) {
+            // deflate should be zlib format, but some servers send raw deflate data, zlib header is checked to support both.
+            boolean zlib = (first & 0x0F) == 8 && second != -1 && ((first << 8) | second) % 31 == 0;
+            inflater = new Inflater(!zlib);
+            return new InflaterInputStream(wire, inflater, BUFFER_SIZE);
+        }
+        return new GZIPInputStream(wire, BUFFER_SIZE);
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (body != null) {
+                body.close(); // release inflater memory
+            }
+        } catch (IOException e) {
+            // response is closed below anyway
+        } finally {
+            if (inflater != null) {
+                inflater.end(); // native memory of inflater is released now, not by gc later
+            }
+            delegate.close();
+            if (!closed) {
+                closed = true;
+                closeListener.onClose(compressedBody == null ? 0 : compressedBody.count, body == null ? 0 : body.count);
+            }
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.MultiValueMap;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public final class Endpoint {
+
+    /**
+     * Compiled descriptor of one receiver api from endpoints.yml.
+     * Everything which is same for every api calling (url template with query params, headers, request body, response type, etc.)
+     * is prepared once at start up by EndpointRegistry, so, api calling only needs to use them.
+     * Even url is expanded and encoded at start up because uri variables are fixed values in endpoints.yml.
+     * @see EndpointRegistry
+     */
+
+    private final String name;
+    private final String description;
+    private final HttpMethod method;
+    private final CompiledUriTemplate uriTemplate;
+    private final URI uri;
+    private final Map<String, ?> uriVariables;
+    private final HeaderTemplate headerTemplate;
+    private final HeaderTemplate smileHeaderTemplate;
+    private final Object body;
+    private final MultiValueMap<String, Object> parts;
+    private final ParameterizedTypeReference<Object> responseType;
+    private final boolean passThrough;
+    private final ObjectReader errorReader;
+    private final Set<Integer> expectedStatus;
+
+    Endpoint(String name, HttpMethod method, CompiledUriTemplate uriTemplate, Map<String, ?> uriVariables, HeaderTemplate headerTemplate,
+             HeaderTemplate smileHeaderTemplate, Object body, MultiValueMap<String, Object> parts, ParameterizedTypeReference<Object> responseType,
+             boolean passThrough, ObjectReader errorReader, Set<Integer> expectedStatus) {
+        this.name = name;
+        this.description = "call " + Character.toUpperCase(name.charAt(0)) + name.substring(1) + " API";
+        this.method = method;
+        this.uriTemplate = uriTemplate;
+        this.uriVariables = uriVariables;
+        this.uri = uriTemplate.expand(uriVariables);
+        this.headerTemplate = headerTemplate;
+        this.smileHeaderTemplate = smileHeaderTemplate;
+        this.body = body;
+        this.parts = parts;
+        this.responseType = responseType;
+        this.passThrough = passThrough;
+        this.errorReader = errorReader;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // eg. call ResponseObjectDemo API
+    public String getDescription() {
+        return description;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    // url with query params, path variables are still {name}, use it to expand with other uri variables.
+    public CompiledUriTemplate getUriTemplate() {
+        return uriTemplate;
+    }
+
+    // encoded url which is expanded with uriVariables, RestTemplate uses URI as it is without parsing and encoding again.
+    public URI getUri() {
+        return uri;
+    }
+
+    public Map<String, ?> getUriVariables() {
+        return uriVariables;
+    }
+
+    // headers are merged with basic auth header only once, use headerTemplate.resolve(basicAuthHeader) to get them.
+    public HeaderTemplate getHeaderTemplate() {
+        return headerTemplate;
+    }
+
+    // same headers with Content-Type: application/x-jackson-smile, null if request body is not json.
+    public HeaderTemplate getSmileHeaderTemplate() {
+        return smileHeaderTemplate;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    // multipart form data (file upload), null if endpoint doesn't upload files.
+    public MultiValueMap<String, Object> getParts() {
+        return parts;
+    }
+
+    public boolean isMultipart() {
+        return parts != null;
+    }
+
+    public ParameterizedTypeReference<Object> getResponseType() {
+        return responseType;
+    }
+
+    // response body is read as byte[] and given to client as RawJson, not read into objects.
+    public boolean isPassThrough() {
+        return passThrough;
+    }
+
+    // null if error response is returned as it is.
+    public ObjectReader getErrorReader() {
+        return errorReader;
+    }
+
+    public boolean isExpectedStatus(int statusCode) {
+        return expectedStatus.contains(statusCode);
+    }
+
+    // data which is written in payload log as request data
+    public Object getRequestData() {
+        if (body != null) {
+            return body;
+        }
+        if (parts != null) {
+            return parts;
+        }
+        return uriVariables.isEmpty() ? null : uriVariables;
+    }
+}
@@ -0,0 +1,212 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import pers.yewin.restapisamplecallerservice.codec.JsonCodec;
+import pers.yewin.restapisamplecallerservice.config.EndpointDescriptorConfig;
+import pers.yewin.restapisamplecallerservice.config.SmileConfig;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+public class EndpointRegistry {
+
+    /**
+     * All receiver apis from endpoints.yml, compiled once at start up.
+     * Type names (eg. Student[], ResponseObjectList<List<Student>>) are resolved to jackson types here, and request bodies are converted from json here.
+     * So, wrong descriptor will fail at start up instead of at first api calling.
+     */
+
+    // packages which are searched for simple type names like Student or String
+    private static final List<String> TYPE_PACKAGES = List.of(
+            "pers.yewin.restapisamplecallerservice.model.response",
+            "pers.yewin.restapisamplecallerservice.model.request",
+            "java.lang", "java.util");
+
+    private static final Pattern TYPE_NAME = Pattern.compile("[A-Za-z_$][\\w.$]*");
+
+    // object response can be read from smile or json, so, receiver can answer with any of them (json is used if receiver doesn't know smile).
+    private static final List<MediaType> SMILE_OR_JSON = MediaType.parseMediaTypes(
+            "application/x-jackson-smile, application/json;q=0.9, application/*+json;q=0.9");
+    private static final List<MediaType> JSON = MediaType.parseMediaTypes("application/json, application/*+json");
+    // String response is read as it is, so, it must not be smile (RestTemplate would also ask smile because smile converter can read String).
+    private static final List<MediaType> TEXT_OR_JSON = MediaType.parseMediaTypes("text/plain, application/json, application/*+json, */*");
+
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final SmileConfig smileConfig;
+    private final FileUploadSupport fileUploadSupport;
+
+    public EndpointRegistry(EndpointDescriptorConfig endpointDescriptorConfig, JsonCodec jsonCodec, SmileConfig smileConfig,
+                            FileUploadSupport fileUploadSupport) {
+        this.objectMapper = jsonCodec.getObjectMapper();
+        this.smileConfig = smileConfig;
+        this.fileUploadSupport = fileUploadSupport;
+        for (Map.Entry<String, EndpointDescriptorConfig.Descriptor> descriptor : endpointDescriptorConfig.getEndpoints().entrySet()) {
+            try {
+                endpoints.put(descriptor.getKey(), compile(descriptor.getKey(), descriptor.getValue()));
+            } catch (Exception e) {
+                throw new IllegalStateException("Invalid descriptor of endpoint " + descriptor.getKey() + ": " + e.getMessage(), e);
+            }
+        }
+        log.info("Endpoint registry created, endpoints: {}", endpoints.size());
+    }
+
+    // throw IllegalArgumentException for unknown endpoint name
+    public Endpoint get(String name) {
+        Endpoint endpoint = endpoints.get(name);
+        if (endpoint == null) {
+            throw new IllegalArgumentException("Unknown endpoint: " + name);
+        }
+        return endpoint;
+    }
+
+    public Collection<Endpoint> getEndpoints() {
+        return Collections.unmodifiableCollection(endpoints.values());
+    }
+
+    private Endpoint compile(String name, EndpointDescriptorConfig.Descriptor descriptor) throws IOException {
+        if (!StringUtils.hasText(descriptor.getUrl())) {
+            throw new IllegalArgumentException("url is required");
+        }
+
+        // url template is compiled once, and query params are encoded and added into url once here, only uri variables are left for api calling.
+        CompiledUriTemplate uriTemplate = CompiledUriTemplate.compile(descriptor.getUrl()).withQueryParams(descriptor.getQueryParams());
+
+
+        HttpHeaders headers = new HttpHeaders();
+        if (descriptor.getContentType() != null) {
+            headers.setContentType(MediaType.parseMediaType(descriptor.getContentType()));
+        }
+        descriptor.getHeaders().forEach(headers::set);
+
+        Object body = null;
+        if (descriptor.getBody() != null) {
+            if (descriptor.getBodyType() == null) {
+                throw new IllegalArgumentException("body-type is required for body");
+            }
+            body = objectMapper.readerFor(resolveType(descriptor.getBodyType())).readValue(descriptor.getBody());
+        }
+
+        MultiValueMap<String, Object> parts = null;
+        if (!descriptor.getFiles().isEmpty()) {
+            parts = new LinkedMultiValueMap<>();
+            for (Map.Entry<String, List<String>> field : descriptor.getFiles().entrySet()) {
+                for (String fileName : field.getValue()) {
+                    Resource file = fileUploadSupport.getFileResource(fileName); // file under resources folder
+                    if (!file.exists()) {
+                        throw new IllegalArgumentException("file " + fileName + " is not found");
+                    }
+                    parts.add(field.getKey(), file);
+                }
+            }
+            parts = CollectionUtils.unmodifiableMultiValueMap(parts);
+        }
+
+        // generic type like ResponseObjectList<List<Student>> is kept, so, dataList is read into students instead of LinkedHashMap.
+        // pass-through response is read as bytes only, it's given to client without reading into objects.
+        JavaType responseJavaType = descriptor.isPassThrough()
+                ? objectMapper.getTypeFactory().constructType(byte[].class) : resolveType(descriptor.getResponseType());
+        ParameterizedTypeReference<Object> responseType = ParameterizedTypeReference.forType(toResolvableType(responseJavaType).getType());
+
+        if (!headers.containsKey(HttpHeaders.ACCEPT)) {
+            if (descriptor.isPassThrough()) {
+                headers.setAccept(JSON); // bytes are written into our json response as they are, so, receiver must answer with json
+            } else if (isObjectType(responseJavaType.getRawClass())) {
+                headers.setAccept(smileConfig.isEnabled() ? SMILE_OR_JSON : JSON);
+            } else {
+                headers.setAccept(TEXT_OR_JSON);
+            }
+        }
+
+        // json request body can be sent as smile after receiver has answered with smile, so, smile headers are also prepared here.
+        HeaderTemplate smileHeaderTemplate = null;
+        if (parts == null && headers.getContentType() != null && MediaType.APPLICATION_JSON.isCompatibleWith(headers.getContentType())) {
+            HttpHeaders smileHeaders = new HttpHeaders();
+            smileHeaders.putAll(headers);
+            smileHeaders.setContentType(SmileNegotiator.APPLICATION_SMILE);
+            smileHeaderTemplate = new HeaderTemplate(smileHeaders, descriptor.isBasicAuth());
+        }
+
+        return new Endpoint(name, descriptor.getMethod(), uriTemplate,
+                Collections.unmodifiableMap(new LinkedHashMap<>(descriptor.getUriVariables())),
+                new HeaderTemplate(headers, descriptor.isBasicAuth()), smileHeaderTemplate, body, parts, responseType, descriptor.isPassThrough(),
+                descriptor.getErrorType() == null ? null : objectMapper.readerFor(resolveType(descriptor.getErrorType())),
+                Collections.unmodifiableSet(new HashSet<>(descriptor.getExpectedStatus())));
+    }
+
+    // eg. Student[] -> array of Student, List<Student> -> java.util.List<pers.yewin...Student>
+    JavaType resolveType(String typeName) {
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        String trimmedName = typeName.trim();
+        if (trimmedName.endsWith("[]")) {
+            return typeFactory.constructArrayType(resolveType(trimmedName.substring(0, trimmedName.length() - 2)));
+        }
+        Matcher simpleNames = TYPE_NAME.matcher(trimmedName);
+        StringBuffer canonicalName = new StringBuffer();
+        while (simpleNames.find()) {
+            simpleNames.appendReplacement(canonicalName, Matcher.quoteReplacement(qualify(simpleNames.group())));
+        }
+        simpleNames.appendTail(canonicalName);
+        return typeFactory.constructFromCanonical(canonicalName.toString());
+    }
+
+    private String qualify(String className) {
+        if (className.indexOf('.') >= 0) {
+            return className;
+        }
+        for (String typePackage : TYPE_PACKAGES) {
+            String qualifiedName = typePackage + "." + className;
+            if (ClassUtils.isPresent(qualifiedName, getClass().getClassLoader())) {
+                return qualifiedName;
+            }
+        }
+        throw new IllegalArgumentException("type " + className + " is not found");
+    }
+
+    // String, byte[] and file responses are read as they are, not by jackson
+    private static boolean isObjectType(Class<?> type) {
+        return !CharSequence.class.isAssignableFrom(type) && type != byte[].class && !Resource.class.isAssignableFrom(type);
+    }
+
+    // RestTemplate needs java type (with generics) instead of jackson type
+    private static ResolvableType toResolvableType(JavaType javaType) {
+        if (javaType.isArrayType() || javaType.containedTypeCount() == 0) {
+            return ResolvableType.forClass(javaType.getRawClass());
+        }
+        ResolvableType[] generics = new ResolvableType[javaType.containedTypeCount()];
+        for (int i = 0; i < generics.length; i++) {
+            generics[i] = toResolvableType(javaType.containedType(i));
+        }
+        return ResolvableType.forClassWithGenerics(javaType.getRawClass(), generics);
+    }
+}
@@ -0,0 +1,79 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriTemplate;
+import pers.yewin.restapisamplecallerservice.config.AppConfig;
+
+import java.beans.PropertyDescriptor;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Component // create bean class
+public class EndpointResolver {
+
+    /**
+     * This class will find the endpoint name of outgoing request url by matching with url templates in AppConfig.
+     * Endpoint name is AppConfig field name without 'Url', eg. responseObjectListDemoUrl -> responseObjectListDemo.
+     * Interceptors use endpoint name to read per endpoint settings (cache ttl, circuit breaker, metrics tags, etc).
+     */
+
+    public static final String UNKNOWN_ENDPOINT = "unknown";
+
+    private static final int MAX_RESOLVED_PATHS = 1024; // to avoid growing resolved cache without limit
+
+    private final Map<String, UriTemplate> endpointTemplates = new LinkedHashMap<>();
+    private final Map<String, String> resolvedPaths = new ConcurrentHashMap<>();
+
+    public EndpointResolver(AppConfig appConfig) {
+        // read all '...Url' fields from AppConfig
+        BeanWrapper appConfigWrapper = new BeanWrapperImpl(appConfig);
+        for (PropertyDescriptor property : appConfigWrapper.getPropertyDescriptors()) {
+            String propertyName = property.getName();
+            if (!propertyName.endsWith("Url") || !appConfigWrapper.isReadableProperty(propertyName)) {
+                continue;
+            }
+            Object url = appConfigWrapper.getPropertyValue(propertyName);
+            if (url instanceof String) {
+                endpointTemplates.put(propertyName.substring(0, propertyName.length() - 3), new UriTemplate((String) url));
+            }
+        }
+    }
+
+    // find endpoint name of the request uri, query params are not used to find.
+    public String resolve(URI uri) {
+        String path = uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath();
+
+        String endpoint = resolvedPaths.get(path);
+        if (endpoint != null) {
+            return endpoint;
+        }
+
+        endpoint = UNKNOWN_ENDPOINT;
+        for (Map.Entry<String, UriTemplate> endpointTemplate : endpointTemplates.entrySet()) {
+            if (endpointTemplate.getValue().matches(path)) {
+                endpoint = endpointTemplate.getKey();
+                break;
+            }
+        }
+
+        if (resolvedPaths.size() < MAX_RESOLVED_PATHS) {
+            resolvedPaths.put(path, endpoint);
+        }
+        return endpoint;
+    }
+
+    public Map<String, UriTemplate> getEndpointTemplates() {
+        return endpointTemplates;
+    }
+}
@@ -0,0 +1,27 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Component // create bean class
+public class FileUploadSupport {
+
+    /**
+     * Files which are used by file upload api callings.
+     * Files of endpoints.yml (EndpointRegistry) and files of bulk upload (BulkUploadServiceImpl) are read from here,
+     * and headers of them come from their endpoint in endpoints.yml.
+     */
+
+    // get file under resources folder from our project path
+    public Resource getFileResource(String fileName) {
+        return new ClassPathResource(fileName);
+    }
+}
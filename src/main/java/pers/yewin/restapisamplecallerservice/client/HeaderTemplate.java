@@ -0,0 +1,62 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public final class HeaderTemplate {
+
+    /**
+     * Request headers of one endpoint, eg. Content-Type, Bearer token from endpoints.yml and Basic auth header.
+     * Static headers never change, so, they are read only HttpHeaders which are created once by EndpointRegistry.
+     * Basic auth header is the only dynamic part, so, static headers and current auth header are merged only when
+     * auth header is changed (first api calling and credentials rotation), other api callings use the merged headers as they are.
+     * Returned headers are read only, copy them before adding more headers (RestTemplate copies them into request anyway).
+     * @see BasicAuthHeader
+     */
+
+    private final HttpHeaders staticHeaders;
+    private final boolean basicAuth;
+    private volatile Merged merged; // authorization and headers are swapped together
+
+    HeaderTemplate(HttpHeaders staticHeaders, boolean basicAuth) {
+        this.staticHeaders = HttpHeaders.readOnlyHttpHeaders(staticHeaders);
+        this.basicAuth = basicAuth;
+    }
+
+    public HttpHeaders resolve(BasicAuthHeader basicAuthHeader) {
+        if (!basicAuth) {
+            return staticHeaders;
+        }
+        String authorization = basicAuthHeader.getValue();
+        Merged current = merged;
+        if (current == null || !current.authorization.equals(authorization)) {
+            current = new Merged(authorization, staticHeaders);
+            merged = current;
+        }
+        return current.headers;
+    }
+
+    public boolean isBasicAuth() {
+        return basicAuth;
+    }
+
+    private static final class Merged {
+
+        private final String authorization;
+        private final HttpHeaders headers;
+
+        private Merged(String authorization, HttpHeaders staticHeaders) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(staticHeaders);
+            headers.set(HttpHeaders.AUTHORIZATION, authorization);
+            this.authorization = authorization;
+            this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        }
+    }
+}
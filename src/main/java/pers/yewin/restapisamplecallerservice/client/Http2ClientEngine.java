@@ -0,0 +1,343 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.config.HttpClientConfig;
+import pers.yewin.restapisamplecallerservice.tracing.OutboundTiming;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+@ConditionalOnProperty(name = "callerapp.config.httpclient.engine", havingValue = "http2") // only selected engine is created
+public class Http2ClientEngine implements ClientEngine, DisposableBean {
+
+    /**
+     * This engine uses jdk HttpClient (java.net.http) with HTTP/2.
+     * With HTTP/1.1, one connection can run only one request at a time, so, concurrent api callings need same number of connections.
+     * With HTTP/2, many requests (streams) run at the same time on one connection, so, many concurrent CallerService calls
+     * share few connections (jdk client keeps one HTTP/2 connection for one host:port).
+     *  - https url -> h2 with TLS (ALPN), server which doesn't support h2 will answer with HTTP/1.1.
+     *  - http url  -> h2c, first request asks 'Upgrade: h2c', server which doesn't support it answers with HTTP/1.1.
+     * So, it falls back to HTTP/1.1 by itself and receiver doesn't need to support HTTP/2.
+     *
+     * Concurrent requests are limited by max concurrent streams (callerapp.config.httpclient.http2-max-concurrent-streams),
+     * request waits free stream until connection request timeout like waiting free connection in pooled engine.
+     * Stream is free again when response body is closed.
+     * Read timeout is time until response headers and also max waiting time of every body read,
+     * body which stops sending data is closed by read timeout timer, so, stream is never kept forever by slow receiver.
+     * Streaming request factory (large file upload) uses HTTP/1.1 with chunked body, because jdk client needs whole request
+     * body publisher before sending, and upload of big file gets nothing from multiplexing.
+     */
+
+    // headers which are set by jdk client itself, it throws exception if we set them.
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(List.of(HttpHeaders.CONNECTION, HttpHeaders.CONTENT_LENGTH, HttpHeaders.EXPECT,
+                HttpHeaders.HOST, HttpHeaders.UPGRADE));
+    }
+
+    private static final int STREAMING_CHUNK_SIZE = 64 * 1024;
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final Duration streamRequestTimeout;
+    private final int maxConcurrentStreams;
+    private final Semaphore streams;
+    private final AtomicReference<HttpClient.Version> negotiatedVersion = new AtomicReference<>();
+    private final ClientHttpRequestFactory requestFactory;
+    private final SimpleClientHttpRequestFactory streamingRequestFactory;
+    private final ThreadPoolTaskScheduler readTimeoutScheduler;
+
+    public Http2ClientEngine(HttpClientConfig httpClientConfig) {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(httpClientConfig.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL) // same with other engines, but never from https to http
+                .build();
+        readTimeout = httpClientConfig.getReadTimeout();
+        streamRequestTimeout = httpClientConfig.getConnectionRequestTimeout();
+        maxConcurrentStreams = httpClientConfig.getHttp2MaxConcurrentStreams();
+        streams = new Semaphore(maxConcurrentStreams, true);
+        requestFactory = Http2ClientHttpRequest::new;
+
+        streamingRequestFactory = new SimpleClientHttpRequestFactory();
+        streamingRequestFactory.setConnectTimeout((int) httpClientConfig.getConnectTimeout().toMillis());
+        streamingRequestFactory.setReadTimeout((int) httpClientConfig.getReadTimeout().toMillis());
+        streamingRequestFactory.setBufferRequestBody(false);
+        streamingRequestFactory.setChunkSize(STREAMING_CHUNK_SIZE);
+
+        // one thread timer which closes response body when receiver stops sending data
+        readTimeoutScheduler = new ThreadPoolTaskScheduler();
+        readTimeoutScheduler.setPoolSize(1);
+        readTimeoutScheduler.setThreadNamePrefix("http2-read-timeout-");
+        readTimeoutScheduler.setRemoveOnCancelPolicy(true); // most timers are cancelled after the read, don't keep them in the queue
+        readTimeoutScheduler.setDaemon(true);
+        readTimeoutScheduler.initialize();
+
+        log.info("Http2 client engine created, maxConcurrentStreams: {}", maxConcurrentStreams);
+    }
+
+    @Override
+    public String getName() {
+        return "http2";
+    }
+
+    @Override
+    public ClientHttpRequestFactory getRequestFactory() {
+        return requestFactory;
+    }
+
+    @Override
+    public ClientHttpRequestFactory getStreamingRequestFactory() {
+        return streamingRequestFactory;
+    }
+
+    // streams which are free now, eg. for metrics or tests
+    public int getAvailableStreams() {
+        return streams.availablePermits();
+    }
+
+    // stop read timeout timer when application is shutting down.
+    @Override
+    public void destroy() {
+        readTimeoutScheduler.shutdown();
+    }
+
+    // log when receiver answers with other http version, eg. first HTTP/1.1 fallback
+    private void checkVersion(HttpClient.Version version) {
+        if (negotiatedVersion.getAndSet(version) != version) {
+            log.info("Receiver api calling protocol: {}", version);
+        }
+    }
+
+    /**
+     * Request body is buffered (like default RestTemplate request factories) and whole request is sent in executeInternal.
+     */
+    private final class Http2ClientHttpRequest extends AbstractClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        private Http2ClientHttpRequest(URI uri, HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public String getMethodValue() {
+            return method.name();
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .timeout(readTimeout) // time until response headers only, body reads are limited by ReadTimeoutInputStream
+                    .method(method.name(), body.size() == 0 ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()));
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (!RESTRICTED_HEADERS.contains(header.getKey())) {
+                    header.getValue().forEach(value -> request.header(header.getKey(), value));
+                }
+            }
+
+            try {
+                if (!streams.tryAcquire(streamRequestTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new IOException("No free http2 stream in " + streamRequestTimeout + ", max concurrent streams: " + maxConcurrentStreams);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting free http2 stream");
+            }
+
+            try {
+                OutboundTiming.markRequestSent();
+                // send returns when response headers are received, body is read from the stream later.
+                HttpResponse<InputStream> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+                OutboundTiming.markHeadersReceived();
+                checkVersion(response.version());
+                return new Http2ClientHttpResponse(response, new ReadTimeoutInputStream(response.body(), uri));
+            } catch (InterruptedException e) {
+                streams.release();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting response of " + uri);
+            } catch (IOException | RuntimeException e) {
+                streams.release();
+                throw e;
+            }
+        }
+    }
+
+    private final class Http2ClientHttpResponse implements ClientHttpResponse {
+
+        private final HttpResponse<InputStream> response;
+        private final InputStream body;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private HttpHeaders headers;
+
+        private Http2ClientHttpResponse(HttpResponse<InputStream> response, InputStream body) {
+            this.response = response;
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return HttpStatus.valueOf(response.statusCode());
+        }
+
+        @Override
+        public int getRawStatusCode() {
+            return response.statusCode();
+        }
+
+        // HTTP/2 has no reason phrase, so, standard phrase of the status code is used.
+        @Override
+        public String getStatusText() {
+            HttpStatus status = HttpStatus.resolve(response.statusCode());
+            return status == null ? "" : status.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            if (headers == null) {
+                HttpHeaders responseHeaders = new HttpHeaders();
+                response.headers().map().forEach(responseHeaders::addAll);
+                headers = HttpHeaders.readOnlyHttpHeaders(responseHeaders);
+            }
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        // stream is given back for next request only once, closing body before the end will reset the HTTP/2 stream.
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                try {
+                    body.close();
+                } catch (IOException e) {
+                    log.debug("error while closing response body: {}", e.getMessage());
+                } finally {
+                    streams.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Jdk HttpClient has no read timeout for response body, request timeout is only until response headers.
+     * So, timer is started before every read which has to wait data, and body is closed if no data comes in read timeout,
+     * then blocked read throws SocketTimeoutException like read timeout of other engines.
+     */
+    private final class ReadTimeoutInputStream extends InputStream {
+
+        private final InputStream body;
+        private final URI uri;
+        private volatile boolean timedOut;
+
+        private ReadTimeoutInputStream(InputStream body, URI uri) {
+            this.body = body;
+            this.uri = uri;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] oneByte = new byte[1];
+            int count = read(oneByte, 0, 1);
+            return count < 0 ? -1 : oneByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            ScheduledFuture<?> timer = null;
+            try {
+                if (body.available() == 0) {
+                    // data is not received yet, so, this read can block
+                    timer = readTimeoutScheduler.getScheduledExecutor().schedule(this::timeout, readTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                return body.read(buffer, offset, length);
+            } catch (IOException e) {
+                if (timedOut) {
+                    throw new SocketTimeoutException("No response data from " + uri + " in " + readTimeout.toMillis() + " ms");
+                }
+                throw e;
+            } finally {
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public int available() throws IOException {
+            return body.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+
+        // closing the body wakes up blocked read and resets HTTP/2 stream
+        private void timeout() {
+            timedOut = true;
+            try {
+                body.close();
+            } catch (IOException e) {
+                log.debug("error while closing timed out response body: {}", e.getMessage());
+            }
+        }
+    }
+}
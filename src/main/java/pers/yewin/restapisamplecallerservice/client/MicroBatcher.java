@@ -0,0 +1,188 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Slf4j // for logging by using lombok
+public final class MicroBatcher<T, R> {
+
+    /**
+     * Buffer single items from many callers and send them together as one batch (one api calling).
+     * Batch is sent when it has max batch size items or when its first item has waited max delay, whichever comes first.
+     * So, under load, batches are full and receiver gets one api calling for many items,
+     * and with low traffic, item waits at most max delay.
+     *
+     * Sender returns one result per item in same order with the items, and every caller gets only its own result (by index).
+     * If sender throws exception or returns wrong number of results, all callers of that batch get the exception.
+     * Items which are buffered or being sent are limited by max pending items, new item is rejected when it's full.
+     */
+
+    // send the batch and return result of every item in same order
+    @FunctionalInterface
+    public interface BatchSender<T, R> {
+        List<R> send(List<T> items) throws Exception;
+    }
+
+    private final String name;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final int maxPendingItems;
+    private final BatchSender<T, R> sender;
+    private final Executor senderExecutor;
+    private final ScheduledExecutorService flushScheduler;
+
+    private final Object lock = new Object();
+    private final AtomicInteger pendingItems = new AtomicInteger();
+    private List<Item<T, R>> buffer; // guarded by lock
+    private ScheduledFuture<?> flushTask; // guarded by lock
+
+    public MicroBatcher(String name, int maxBatchSize, Duration maxDelay, int maxPendingItems, BatchSender<T, R> sender,
+                        Executor senderExecutor, ScheduledExecutorService flushScheduler) {
+        if (maxBatchSize < 1 || maxPendingItems < maxBatchSize) {
+            throw new IllegalArgumentException("max batch size must be positive and max pending items must not be less than max batch size");
+        }
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxPendingItems = maxPendingItems;
+        this.sender = sender;
+        this.senderExecutor = senderExecutor;
+        this.flushScheduler = flushScheduler;
+        this.buffer = new ArrayList<>(maxBatchSize);
+    }
+
+    // throw RejectedExecutionException when there are already max pending items
+    public CompletableFuture<R> submit(T item) {
+        if (pendingItems.incrementAndGet() > maxPendingItems) {
+            pendingItems.decrementAndGet();
+            throw new RejectedExecutionException("Batcher " + name + " has " + maxPendingItems + " pending items");
+        }
+
+        CompletableFuture<R> result = new CompletableFuture<>();
+        List<Item<T, R>> fullBatch = null;
+        synchronized (lock) {
+            buffer.add(new Item<>(item, result));
+            if (buffer.size() >= maxBatchSize) {
+                fullBatch = takeBuffer();
+            } else if (buffer.size() == 1) {
+                // first item of new batch starts the timer, and timer knows its own batch (buffer list)
+                List<Item<T, R>> timerBatch = buffer;
+                flushTask = flushScheduler.schedule(() -> flushOnTimer(timerBatch), maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch, "size");
+        }
+        return result;
+    }
+
+    // send buffered items now without waiting the batch to be full, eg. by timer or before shutdown
+    public void flush() {
+        List<Item<T, R>> batch;
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = takeBuffer();
+        }
+        dispatch(batch, "time");
+    }
+
+    // timer can be already running when its batch is sent by size, then it must not send next batch which has only few items.
+    private void flushOnTimer(List<Item<T, R>> timerBatch) {
+        List<Item<T, R>> batch;
+        synchronized (lock) {
+            if (buffer != timerBatch || buffer.isEmpty()) {
+                return; // batch of this timer is already sent
+            }
+            batch = takeBuffer();
+        }
+        dispatch(batch, "time");
+    }
+
+    public int getPendingItems() {
+        return pendingItems.get();
+    }
+
+    private List<Item<T, R>> takeBuffer() {
+        List<Item<T, R>> batch = buffer;
+        buffer = new ArrayList<>(maxBatchSize);
+        if (flushTask != null) {
+            // timer of sent batch is not needed anymore, if it is already running, flushOnTimer will skip because buffer is changed
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Item<T, R>> batch, String reason) {
+        try {
+            senderExecutor.execute(() -> send(batch, reason));
+        } catch (RejectedExecutionException e) {
+            log.warn("Batch of {} is rejected by sender executor, items: {}", name, batch.size());
+            complete(batch, null, e);
+        }
+    }
+
+    private void send(List<Item<T, R>> batch, String reason) {
+        List<T> items = new ArrayList<>(batch.size());
+        for (Item<T, R> item : batch) {
+            items.add(item.value);
+        }
+        log.info("Sending batch of {}, items: {}, flushed by: {}", name, items.size(), reason);
+        try {
+            List<R> results = sender.send(items);
+            if (results == null || results.size() != items.size()) {
+                throw new IllegalStateException("Batch of " + name + " has " + items.size() + " items but "
+                        + (results == null ? 0 : results.size()) + " results");
+            }
+            complete(batch, results, null);
+        } catch (Exception e) {
+            log.error("error: {}", e.getMessage(), e);
+            complete(batch, null, e);
+        } catch (Error e) {
+            // callers must not wait forever and pending items must be released, then Error goes to sender executor.
+            complete(batch, null, e);
+            throw e;
+        }
+    }
+
+    private void complete(List<Item<T, R>> batch, List<R> results, Throwable error) {
+        for (int i = 0; i < batch.size(); i++) {
+            if (error == null) {
+                batch.get(i).result.complete(results.get(i));
+            } else {
+                batch.get(i).result.completeExceptionally(error);
+            }
+        }
+        pendingItems.addAndGet(-batch.size());
+    }
+
+    private static final class Item<T, R> {
+
+        private final T value;
+        private final CompletableFuture<R> result;
+
+        private Item(T value, CompletableFuture<R> result) {
+            this.value = value;
+            this.result = result;
+        }
+    }
+}
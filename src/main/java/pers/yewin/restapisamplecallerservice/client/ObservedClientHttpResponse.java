@@ -0,0 +1,102 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public class ObservedClientHttpResponse implements ClientHttpResponse {
+
+    /**
+     * Response wrapper for interceptors which need to know when response is finished (metrics, tracing).
+     * Body bytes are counted while they are read, and listener is called once when RestTemplate closes the response.
+     * Response body is not buffered, so, it is same for large and streaming responses.
+     */
+
+    @FunctionalInterface
+    public interface CloseListener {
+        void onClose(long responseBytes);
+    }
+
+    private final ClientHttpResponse delegate;
+    private final int status;
+    private final CloseListener closeListener;
+
+    private InputStream body;
+    private long responseBytes;
+    private boolean closed;
+
+    public ObservedClientHttpResponse(ClientHttpResponse delegate, CloseListener closeListener) throws IOException {
+        this.delegate = delegate;
+        this.status = delegate.getRawStatusCode();
+        this.closeListener = closeListener;
+    }
+
+    @Override
+    public HttpStatus getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public int getRawStatusCode() {
+        return status;
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            body = new FilterInputStream(delegate.getBody()) {
+                @Override
+                public int read() throws IOException {
+                    int value = super.read();
+                    if (value != -1) {
+                        responseBytes++;
+                    }
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int count = super.read(buffer, offset, length);
+                    if (count > 0) {
+                        responseBytes += count;
+                    }
+                    return count;
+                }
+            };
+        }
+        return body;
+    }
+
+    @Override
+    public void close() {
+        try {
+            delegate.close();
+        } finally {
+            if (!closed) {
+                closed = true;
+                closeListener.onClose(responseBytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Component // create bean class
+public class OutboundMetrics {
+
+    /**
+     * Metrics of every outbound api calling, tagged by endpoint name (AppConfig field name without 'Url').
+     * caller.outbound.requests -> latency timer (count = request rate, percentiles and histogram from application.properties),
+     *                             tags: endpoint, method, status (http status or IO_ERROR), outcome (SUCCESS, CLIENT_ERROR, ...), exception
+     * caller.outbound.request.size, caller.outbound.response.size -> body size in bytes, tags: endpoint, method
+     * caller.outbound.compression.received, caller.outbound.compression.saved -> compressed bytes on the wire and
+     *                             bytes which are saved by compression (decompressed - compressed), tags: endpoint, encoding
+     * All of them are shown in /actuator/prometheus and /actuator/metrics.
+     */
+
+    public static final String REQUESTS = "caller.outbound.requests";
+    public static final String REQUEST_SIZE = "caller.outbound.request.size";
+    public static final String RESPONSE_SIZE = "caller.outbound.response.size";
+    public static final String COMPRESSION_RECEIVED = "caller.outbound.compression.received";
+    public static final String COMPRESSION_SAVED = "caller.outbound.compression.saved";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public OutboundMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // status is http status code, error is not null when there is no response (io error, circuit breaker is open, etc).
+    public void record(String endpoint, String method, int status, Throwable error, long durationNanos, long requestBytes, long responseBytes) {
+        Timer.builder(REQUESTS)
+                .tag("endpoint", endpoint)
+                .tag("method", method)
+                .tag("status", error != null ? "IO_ERROR" : String.valueOf(status))
+                .tag("outcome", error != null ? "UNKNOWN" : outcome(status))
+                .tag("exception", error != null ? error.getClass().getSimpleName() : NONE)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder(REQUEST_SIZE)
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(requestBytes);
+
+        if (error == null) {
+            DistributionSummary.builder(RESPONSE_SIZE)
+                    .baseUnit("bytes")
+                    .tag("endpoint", endpoint)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(responseBytes);
+        }
+    }
+
+    // compressed response body, it is recorded when response is closed, so, only bytes which are read are counted.
+    public void recordCompression(String endpoint, String encoding, long compressedBytes, long decompressedBytes) {
+        Counter.builder(COMPRESSION_RECEIVED)
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .tag("encoding", encoding)
+                .register(meterRegistry)
+                .increment(compressedBytes);
+
+        Counter.builder(COMPRESSION_SAVED)
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .tag("encoding", encoding)
+                .register(meterRegistry)
+                .increment(Math.max(0, decompressedBytes - compressedBytes)); // tiny body can be bigger after compression
+    }
+
+    private static String outcome(int status) {
+        switch (status / 100) {
+            case 1: return "INFORMATIONAL";
+            case 2: return "SUCCESS";
+            case 3: return "REDIRECTION";
+            case 4: return "CLIENT_ERROR";
+            case 5: return "SERVER_ERROR";
+            default: return "UNKNOWN";
+        }
+    }
+}
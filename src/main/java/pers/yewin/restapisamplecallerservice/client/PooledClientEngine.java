@@ -0,0 +1,192 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.config.HttpClientConfig;
+import pers.yewin.restapisamplecallerservice.tracing.OutboundTiming;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+@ConditionalOnProperty(name = "callerapp.config.httpclient.engine", havingValue = "pooled", matchIfMissing = true) // only selected engine is created
+public class PooledClientEngine implements ClientEngine, DisposableBean {
+
+    /**
+     * This engine uses Apache HttpClient with bounded connection pool.
+     * All receiver apis are on same host (localhost:8081), so keep-alive connections will be reused for every api calling
+     * instead of opening new tcp connection, and that is the biggest win when there are many requests.
+     * Idle and expired connections are closed by background evictor thread of HttpClient.
+     * Dns, connect and request/response hooks write network timing of every call for tracing (OutboundTiming).
+     */
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final HttpComponentsClientHttpRequestFactory requestFactory;
+    private final HttpComponentsClientHttpRequestFactory streamingRequestFactory;
+
+    public PooledClientEngine(HttpClientConfig httpClientConfig) {
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", new TimingConnectionSocketFactory(PlainConnectionSocketFactory.getSocketFactory()))
+                .register("https", new TimingConnectionSocketFactory(SSLConnectionSocketFactory.getSocketFactory()))
+                .build();
+        connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry, null, null, new TimingDnsResolver(),
+                httpClientConfig.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(httpClientConfig.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(httpClientConfig.getMaxPerRoute());
+        connectionManager.setValidateAfterInactivity((int) httpClientConfig.getValidateAfterInactivity().toMillis());
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) httpClientConfig.getConnectTimeout().toMillis())
+                .setSocketTimeout((int) httpClientConfig.getReadTimeout().toMillis())
+                .setConnectionRequestTimeout((int) httpClientConfig.getConnectionRequestTimeout().toMillis())
+                .build();
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setRequestExecutor(new TimingHttpRequestExecutor())
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE) // follow Keep-Alive header from server
+                .disableContentCompression() // CompressionInterceptor does it for every engine and records bytes saved
+                .evictExpiredConnections() // close connections which are over time to live
+                .evictIdleConnections(httpClientConfig.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS) // close idle connections
+                .build();
+
+        requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        // same pool, but request body is written to the socket with chunked transfer encoding while we are writing.
+        streamingRequestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        streamingRequestFactory.setBufferRequestBody(false);
+
+        log.info("Pooled client engine created, maxTotal: {}, maxPerRoute: {}", httpClientConfig.getMaxTotal(), httpClientConfig.getMaxPerRoute());
+    }
+
+    @Override
+    public String getName() {
+        return "pooled";
+    }
+
+    @Override
+    public ClientHttpRequestFactory getRequestFactory() {
+        return requestFactory;
+    }
+
+    @Override
+    public ClientHttpRequestFactory getStreamingRequestFactory() {
+        return streamingRequestFactory;
+    }
+
+    public PoolingHttpClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    // close all pooled connections and evictor thread when application is shutting down.
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+
+    private static final class TimingDnsResolver implements DnsResolver {
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            long startTime = System.nanoTime();
+            try {
+                return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            } finally {
+                OutboundTiming.addDns(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    // connect time of new connection, for https it includes tls handshake
+    private static final class TimingConnectionSocketFactory implements LayeredConnectionSocketFactory {
+
+        private final ConnectionSocketFactory delegate;
+
+        private TimingConnectionSocketFactory(ConnectionSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket(HttpContext context) throws IOException {
+            return delegate.createSocket(context);
+        }
+
+        @Override
+        public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress, HttpContext context) throws IOException {
+            long startTime = System.nanoTime();
+            try {
+                return delegate.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+            } finally {
+                OutboundTiming.addConnect(System.nanoTime() - startTime);
+            }
+        }
+
+        // only for https through proxy tunnel
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            if (!(delegate instanceof LayeredConnectionSocketFactory)) {
+                throw new UnsupportedOperationException("Socket factory doesn't support layered socket");
+            }
+            return ((LayeredConnectionSocketFactory) delegate).createLayeredSocket(socket, target, port, context);
+        }
+    }
+
+    // time when request is sent and when response headers are received, difference is time to first byte
+    private static final class TimingHttpRequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection connection, HttpContext context)
+                throws IOException, HttpException {
+            HttpResponse response = super.doSendRequest(request, connection, context);
+            OutboundTiming.markRequestSent();
+            return response;
+        }
+
+        @Override
+        protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection connection, HttpContext context)
+                throws HttpException, IOException {
+            HttpResponse response = super.doReceiveResponse(request, connection, context);
+            OutboundTiming.markHeadersReceived();
+            return response;
+        }
+    }
+}
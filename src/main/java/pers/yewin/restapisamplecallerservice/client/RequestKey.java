@@ -0,0 +1,36 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.http.HttpRequest;
+
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public final class RequestKey {
+
+    /**
+     * Build the key of outgoing request from method, resolved url (with query params) and given headers.
+     * Two requests with same key will get same response from receiver, so, they can share cached or in-flight response.
+     */
+
+    private RequestKey() {
+    }
+
+    public static String of(HttpRequest request, List<String> keyHeaders) {
+        StringBuilder requestKey = new StringBuilder()
+                .append(request.getMethodValue()).append(' ')
+                .append(request.getURI().toString());
+        for (String headerName : keyHeaders) {
+            String headerValue = request.getHeaders().getFirst(headerName);
+            if (headerValue != null) {
+                requestKey.append('\n').append(headerName).append(':').append(headerValue);
+            }
+        }
+        return requestKey.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.core.io.Resource;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+// part of resource (file) from offset with length, it's used as file part of multipart upload to send one chunk of large file.
+@Getter // create getter method by using lombok
+@AllArgsConstructor // create all argument constructor by using lombok
+@ToString
+public class ResourceRange {
+
+    private final Resource resource;
+    private final long offset;
+    private final long length;
+    private final String filename; // file name in multipart, eg. test.xlsx.part0
+}
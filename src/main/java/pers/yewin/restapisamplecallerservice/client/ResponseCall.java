@@ -0,0 +1,19 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@FunctionalInterface
+public interface ResponseCall {
+
+    // one api calling on the wire, it's used to wrap api callings which are not going through RestTemplate interceptors.
+    ClientHttpResponse call() throws IOException;
+}
@@ -0,0 +1,45 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public class RetryBudget {
+
+    /**
+     * Token bucket which limits number of retries for whole application.
+     * Every call deposits 'ratio' token and every retry withdraws one token, so, retries can't be more than 'ratio' of calls.
+     * Bucket can't hold more than 'maxTokens', so, saved tokens from good time can't make retry storm when receiver is down.
+     */
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens; // start with full bucket
+    }
+
+    // call this for every first attempt
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    // call this before every retry, false means no budget and should not retry
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    public synchronized double getTokens() {
+        return tokens;
+    }
+}
@@ -0,0 +1,57 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.config.HttpClientConfig;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Component // create bean class
+@ConditionalOnProperty(name = "callerapp.config.httpclient.engine", havingValue = "simple") // only selected engine is created
+public class SimpleClientEngine implements ClientEngine {
+
+    /**
+     * This engine is same with the default engine of new RestTemplate().
+     * It uses jdk HttpURLConnection and there is no pool size or per route limit, only jdk keep-alive cache.
+     * I keep this engine to compare with pooled engine and to fall back if you need.
+     */
+
+    private static final int STREAMING_CHUNK_SIZE = 64 * 1024;
+
+    private final SimpleClientHttpRequestFactory requestFactory;
+    private final SimpleClientHttpRequestFactory streamingRequestFactory;
+
+    public SimpleClientEngine(HttpClientConfig httpClientConfig) {
+        requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) httpClientConfig.getConnectTimeout().toMillis());
+        requestFactory.setReadTimeout((int) httpClientConfig.getReadTimeout().toMillis());
+
+        streamingRequestFactory = new SimpleClientHttpRequestFactory();
+        streamingRequestFactory.setConnectTimeout((int) httpClientConfig.getConnectTimeout().toMillis());
+        streamingRequestFactory.setReadTimeout((int) httpClientConfig.getReadTimeout().toMillis());
+        streamingRequestFactory.setBufferRequestBody(false);
+        streamingRequestFactory.setChunkSize(STREAMING_CHUNK_SIZE);
+    }
+
+    @Override
+    public String getName() {
+        return "simple";
+    }
+
+    @Override
+    public ClientHttpRequestFactory getRequestFactory() {
+        return requestFactory;
+    }
+
+    @Override
+    public ClientHttpRequestFactory getStreamingRequestFactory() {
+        return streamingRequestFactory;
+    }
+}
@@ -0,0 +1,102 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.codec.JsonCodec;
+import pers.yewin.restapisamplecallerservice.config.SmileConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+public class SmileNegotiator {
+
+    /**
+     * Smile is binary json from jackson, same object model with json but smaller and much faster to write and read,
+     * eg. repeated field names in a list of students are written only once.
+     * Receiver is asked for smile by Accept header (json is still accepted), so, receiver which doesn't know smile will answer with json,
+     * and RestTemplate picks json or smile message converter by Content-Type of the response.
+     *
+     * Request body can't be negotiated before sending, so, it's sent as smile only to receiver (scheme, host and port)
+     * which has already answered with smile. If that receiver still answers '415 Unsupported Media Type',
+     * the body is sent again as json and that receiver gets only json from then on.
+     * @see pers.yewin.restapisamplecallerservice.interceptor.SmileNegotiationInterceptor
+     */
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final int MAX_RECEIVERS = 1024; // to avoid growing without limit with many hosts
+
+    private final SmileConfig smileConfig;
+    private final ObjectMapper smileMapper;
+    private final JsonFactory jsonFactory;
+
+    // true -> receiver has answered with smile, false -> receiver has rejected smile request body
+    private final Map<String, Boolean> receivers = new ConcurrentHashMap<>();
+
+    public SmileNegotiator(SmileConfig smileConfig, MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter, JsonCodec jsonCodec) {
+        this.smileConfig = smileConfig;
+        this.smileMapper = smileHttpMessageConverter.getObjectMapper();
+        this.jsonFactory = jsonCodec.getObjectMapper().getFactory();
+    }
+
+    public boolean isEnabled() {
+        return smileConfig.isEnabled();
+    }
+
+    public boolean canSendSmileBody(URI uri) {
+        return smileConfig.isEnabled() && smileConfig.isRequestBody() && Boolean.TRUE.equals(receivers.get(receiverOf(uri)));
+    }
+
+    // called with Content-Type of every receiver response
+    public void onResponse(URI uri, MediaType contentType) {
+        if (contentType == null || !APPLICATION_SMILE.isCompatibleWith(contentType) || receivers.size() >= MAX_RECEIVERS) {
+            return;
+        }
+        String receiver = receiverOf(uri);
+        if (receivers.putIfAbsent(receiver, Boolean.TRUE) == null) {
+            log.info("Receiver {} answers with smile, json request bodies will be sent as smile", receiver);
+        }
+    }
+
+    // receiver has answered 415 for smile request body
+    public void onSmileBodyRejected(URI uri) {
+        String receiver = receiverOf(uri);
+        if (!Boolean.FALSE.equals(receivers.put(receiver, Boolean.FALSE))) {
+            log.warn("Receiver {} doesn't accept smile request body, json will be sent", receiver);
+        }
+    }
+
+    // smile bytes -> json bytes, tokens are copied one by one, body is not read into objects.
+    public byte[] toJson(byte[] smile) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream(smile.length * 2);
+        try (JsonParser parser = smileMapper.getFactory().createParser(smile);
+             JsonGenerator generator = jsonFactory.createGenerator(json)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        return json.toByteArray();
+    }
+
+    private static String receiverOf(URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+}
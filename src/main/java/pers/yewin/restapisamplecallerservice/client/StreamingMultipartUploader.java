@@ -0,0 +1,254 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+import pers.yewin.restapisamplecallerservice.config.HttpClientConfig;
+import pers.yewin.restapisamplecallerservice.config.MetricsConfig;
+import pers.yewin.restapisamplecallerservice.interceptor.ResilienceInterceptor;
+import pers.yewin.restapisamplecallerservice.tracing.OutboundTracer;
+import pers.yewin.restapisamplecallerservice.tracing.Span;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+public class StreamingMultipartUploader {
+
+    /**
+     * RestTemplate (with FormHttpMessageConverter) builds whole multipart body in memory before sending,
+     * and interceptors also buffer the request body, so, heap usage is growing with file size.
+     * This uploader writes multipart body directly to the socket with chunked transfer encoding while it is reading the files.
+     * File on disk is read through memory mapped window of FileChannel, and other resources (eg. file inside jar) are read as stream.
+     * Only one small copy buffer is used for every upload, so, heap usage is same for any file size.
+     * Part value can also be ResourceRange to send only one chunk of large file.
+     * Call is still protected by circuit breaker and bulkhead of that endpoint, and it is recorded in outbound metrics and tracing.
+     */
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final long MAP_WINDOW_SIZE = 8L * 1024 * 1024; // map file part by part, not the whole file at once
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ClientHttpRequestFactory streamingRequestFactory;
+    private final ResilienceInterceptor resilienceInterceptor;
+    private final EndpointResolver endpointResolver;
+    private final OutboundMetrics outboundMetrics;
+    private final MetricsConfig metricsConfig;
+    private final OutboundTracer outboundTracer;
+
+    public StreamingMultipartUploader(List<ClientEngine> clientEngines, HttpClientConfig httpClientConfig, ResilienceInterceptor resilienceInterceptor,
+                                      EndpointResolver endpointResolver, OutboundMetrics outboundMetrics, MetricsConfig metricsConfig,
+                                      OutboundTracer outboundTracer) {
+        this.streamingRequestFactory = ClientEngine.find(clientEngines, httpClientConfig.getEngine()).getStreamingRequestFactory();
+        this.resilienceInterceptor = resilienceInterceptor;
+        this.endpointResolver = endpointResolver;
+        this.outboundMetrics = outboundMetrics;
+        this.metricsConfig = metricsConfig;
+        this.outboundTracer = outboundTracer;
+    }
+
+    /**
+     * POST multipart/form-data to given url, value of parts can be Resource (file part) or other value (text part).
+     * Headers are extra headers like Authorization, content type with boundary is set by this method.
+     */
+    public ResponseEntity<String> post(String url, HttpHeaders headers, MultiValueMap<String, Object> parts) throws IOException {
+        return post(URI.create(url), headers, parts);
+    }
+
+    // url is already encoded URI, eg. Endpoint.getUri()
+    public ResponseEntity<String> post(URI uri, HttpHeaders headers, MultiValueMap<String, Object> parts) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        String endpoint = endpointResolver.resolve(uri);
+        AtomicLong requestBytes = new AtomicLong();
+        long startTime = System.nanoTime();
+
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.putAll(headers);
+        Span span = outboundTracer.start(HttpMethod.POST.name(), uri, requestHeaders);
+
+        ClientHttpResponse response;
+        try {
+            response = resilienceInterceptor.protect(uri, () -> {
+                ClientHttpRequest request = streamingRequestFactory.createRequest(uri, HttpMethod.POST);
+                request.getHeaders().putAll(requestHeaders);
+                request.getHeaders().setContentType(new MediaType(MediaType.MULTIPART_FORM_DATA,
+                        Collections.singletonMap("boundary", boundary)));
+
+                if (request instanceof StreamingHttpOutputMessage) {
+                    ((StreamingHttpOutputMessage) request).setBody(out -> writeMultipart(new CountingOutputStream(out, requestBytes), boundary, parts));
+                } else {
+                    writeMultipart(new CountingOutputStream(request.getBody(), requestBytes), boundary, parts);
+                }
+                return request.execute();
+            });
+        } catch (IOException | RuntimeException e) {
+            recordMetrics(endpoint, 0, e, startTime, requestBytes.get(), 0);
+            outboundTracer.failed(span, e);
+            throw e;
+        }
+
+        int status = response.getRawStatusCode();
+        long headersReceivedAt = outboundTracer.headersReceived(span, status);
+        long responseBytes = 0;
+        try {
+            HttpHeaders responseHeaders = response.getHeaders();
+            Charset charset = responseHeaders.getContentType() != null && responseHeaders.getContentType().getCharset() != null
+                    ? responseHeaders.getContentType().getCharset() : StandardCharsets.UTF_8;
+            byte[] body = StreamUtils.copyToByteArray(response.getBody());
+            responseBytes = body.length;
+            return ResponseEntity.status(status).headers(responseHeaders).body(new String(body, charset));
+        } finally {
+            response.close();
+            recordMetrics(endpoint, status, null, startTime, requestBytes.get(), responseBytes);
+            outboundTracer.finish(span, headersReceivedAt);
+        }
+    }
+
+    private void recordMetrics(String endpoint, int status, Throwable error, long startTime, long requestBytes, long responseBytes) {
+        if (metricsConfig.isEnabled()) {
+            outboundMetrics.record(endpoint, HttpMethod.POST.name(), status, error, System.nanoTime() - startTime, requestBytes, responseBytes);
+        }
+    }
+
+    private void writeMultipart(OutputStream out, String boundary, MultiValueMap<String, Object> parts) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        byte[] boundaryLine = ("--" + boundary).getBytes(StandardCharsets.US_ASCII);
+
+        for (Map.Entry<String, List<Object>> part : parts.entrySet()) {
+            for (Object value : part.getValue()) {
+                out.write(boundaryLine);
+                out.write(CRLF);
+                if (value instanceof ResourceRange) {
+                    ResourceRange range = (ResourceRange) value;
+                    writeFileHeaders(out, part.getKey(), range.getFilename(), range.getResource());
+                    writeResource(out, range.getResource(), range.getOffset(), range.getLength(), buffer);
+                } else if (value instanceof Resource) {
+                    Resource resource = (Resource) value;
+                    writeFileHeaders(out, part.getKey(), resource.getFilename(), resource);
+                    writeResource(out, resource, 0, -1, buffer);
+                } else {
+                    writeHeader(out, "Content-Disposition: form-data; name=\"" + part.getKey() + "\"");
+                    writeHeader(out, "Content-Type: text/plain;charset=UTF-8");
+                    out.write(CRLF);
+                    out.write(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                }
+                out.write(CRLF);
+            }
+        }
+        out.write(boundaryLine);
+        out.write("--".getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+        out.flush();
+    }
+
+    private void writeFileHeaders(OutputStream out, String name, String filename, Resource resource) throws IOException {
+        MediaType contentType = MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        writeHeader(out, "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"");
+        writeHeader(out, "Content-Type: " + contentType);
+        out.write(CRLF);
+    }
+
+    private void writeHeader(OutputStream out, String header) throws IOException {
+        out.write(header.getBytes(StandardCharsets.UTF_8));
+        out.write(CRLF);
+    }
+
+    // write bytes of resource from offset with length, length -1 means until end of resource.
+    private void writeResource(OutputStream out, Resource resource, long offset, long length, byte[] buffer) throws IOException {
+        if (resource.isFile()) {
+            // file on disk, read from memory mapped window, so, file content is not copied into heap except the small buffer.
+            try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                long end = length < 0 ? channel.size() : Math.min(channel.size(), offset + length);
+                for (long position = offset; position < end; position += MAP_WINDOW_SIZE) {
+                    MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW_SIZE, end - position));
+                    while (window.hasRemaining()) {
+                        int size = Math.min(buffer.length, window.remaining());
+                        window.get(buffer, 0, size);
+                        out.write(buffer, 0, size);
+                    }
+                }
+            }
+        } else {
+            // eg. file inside jar or from other stream, just copy with same buffer.
+            try (InputStream in = resource.getInputStream()) {
+                skipFully(in, offset);
+                long remaining = length < 0 ? Long.MAX_VALUE : length;
+                int size;
+                while (remaining > 0 && (size = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                    out.write(buffer, 0, size);
+                    remaining -= size;
+                }
+            }
+        }
+    }
+
+    private void skipFully(InputStream in, long bytes) throws IOException {
+        long remaining = bytes;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() == -1) {
+                    throw new IOException("Resource is shorter than offset " + bytes);
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    // count bytes which are written to the socket
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private final AtomicLong count;
+
+        private CountingOutputStream(OutputStream out, AtomicLong count) {
+            super(out);
+            this.count = count;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            out.write(value);
+            count.incrementAndGet();
+        }
+
+        // FilterOutputStream writes byte by byte, so, I write whole array directly.
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            count.addAndGet(length);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.client
+ */
+
+public final class VirtualThreads {
+
+    /**
+     * Virtual threads are final from java 21, but this project is built with java 17.
+     * So, I call Thread.ofVirtual() and Executors.newThreadPerTaskExecutor() by reflection,
+     * same jar will use virtual threads on java 21+ and will report not supported on older jvm.
+     */
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        try {
+            newThreadFactory("virtual-check-");
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false; // old jvm, or preview feature is not enabled on java 19 and 20
+        }
+    }
+
+    // new virtual thread for every task, thread names will be prefix + counter (eg. request-virtual-0, request-virtual-1)
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) throws ReflectiveOperationException {
+        Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        return (ExecutorService) newThreadPerTaskExecutor.invoke(null, newThreadFactory(namePrefix));
+    }
+
+    private static ThreadFactory newThreadFactory(String namePrefix) throws ReflectiveOperationException {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+}
@@ -0,0 +1,21 @@
+package pers.yewin.restapisamplecallerservice.codec;
+
+import java.io.IOException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.codec
+ */
+
+@FunctionalInterface
+public interface ElementConsumer<T> {
+
+    /**
+     * Callback for every element of streaming json array.
+     * It can throw IOException, so, element can be written directly into other stream (eg. http response as NDJSON).
+     */
+
+    void accept(T element) throws IOException;
+}
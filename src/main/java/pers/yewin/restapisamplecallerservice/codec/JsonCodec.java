@@ -0,0 +1,152 @@
+package pers.yewin.restapisamplecallerservice.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.model.request.StringListObject;
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+import pers.yewin.restapisamplecallerservice.model.request.StudentListObject;
+import pers.yewin.restapisamplecallerservice.model.response.AggregateCallResult;
+import pers.yewin.restapisamplecallerservice.model.response.AggregateResponse;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.model.response.Count;
+import pers.yewin.restapisamplecallerservice.model.response.ResponseObject;
+import pers.yewin.restapisamplecallerservice.model.response.ResponseObjectList;
+import pers.yewin.restapisamplecallerservice.model.response.StatusObject;
+import pers.yewin.restapisamplecallerservice.model.response.StudentNameAndClass;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.codec
+ */
+
+@Component // create bean class
+public class JsonCodec {
+
+    /**
+     * One place for json converting in this application.
+     * It holds the ObjectMapper which is configured by spring boot (spring.jackson.* properties), and the same mapper is used by RestTemplate.
+     * ObjectReader and ObjectWriter of every model class are created once at start up, and they are thread safe and reusable.
+     * So, we don't need to create new ObjectMapper (which is expensive) in every api calling, especially in error response handling.
+     */
+
+    private static final List<Class<?>> MODEL_TYPES = Arrays.asList(
+            Student.class, StudentListObject.class, StringListObject.class,
+            CallerServiceResponse.class, Count.class, ResponseObject.class, ResponseObjectList.class,
+            StatusObject.class, StudentNameAndClass.class, AggregateResponse.class, AggregateCallResult.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final ObjectWriter ndjsonWriter;
+
+    public JsonCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (Class<?> modelType : MODEL_TYPES) {
+            readers.put(modelType, objectMapper.readerFor(modelType));
+            writers.put(modelType, objectMapper.writerFor(modelType));
+        }
+        // don't flush after every line, output stream will be flushed by its buffer size.
+        ndjsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public <T> T read(String json, Class<T> type) throws JsonProcessingException {
+        return reader(type).readValue(json);
+    }
+
+    public <T> T read(byte[] json, Class<T> type) throws IOException {
+        return reader(type).readValue(json);
+    }
+
+    public String write(Object value) throws JsonProcessingException {
+        return writer(value.getClass()).writeValueAsString(value);
+    }
+
+    /**
+     * Read json array from stream element by element and give every element to consumer.
+     * Only one element is in memory at a time, so, memory will be same even though array has many elements.
+     * Return number of elements.
+     */
+    public <T> long readArray(InputStream json, Class<T> elementType, ElementConsumer<T> consumer) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected json array but was " + parser.currentToken());
+            }
+            return readElements(parser, elementType, consumer);
+        }
+    }
+
+    /**
+     * Same with readArray, but array is the field of json object, eg. dataList of ResponseObjectList.
+     * Other fields of that object are skipped.
+     */
+    public <T> long readArrayField(InputStream json, String fieldName, Class<T> elementType, ElementConsumer<T> consumer) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected json object but was " + parser.currentToken());
+            }
+            long count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String currentField = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (fieldName.equals(currentField) && valueToken == JsonToken.START_ARRAY) {
+                    count += readElements(parser, elementType, consumer);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return count;
+        }
+    }
+
+    private <T> long readElements(JsonParser parser, Class<T> elementType, ElementConsumer<T> consumer) throws IOException {
+        ObjectReader elementReader = reader(elementType);
+        long count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            consumer.accept(elementReader.readValue(parser));
+            count++;
+        }
+        return count;
+    }
+
+    // json generator which writes every value in one line (NDJSON), use writeNdjson to write value.
+    public JsonGenerator createNdjsonGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        return generator;
+    }
+
+    public void writeNdjson(JsonGenerator generator, Object value) throws IOException {
+        ndjsonWriter.writeValue(generator, value);
+    }
+
+    // other types which are not in model packages will be cached when they are used first time.
+    public ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,74 @@
+package pers.yewin.restapisamplecallerservice.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.codec
+ */
+
+public final class RawJson implements JsonSerializable {
+
+    /**
+     * Json text of receiver response which is not read into objects (pass-through endpoint in endpoints.yml).
+     * When it's written as json (eg. thirdPartyResponseData of CallerServiceResponse), text is written as it is,
+     * so, receiver data is never parsed into objects and written again.
+     * Only for other formats like smile, json tokens are copied one by one into that format.
+     */
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String value;
+
+    private RawJson(String value) {
+        this.value = value;
+    }
+
+    // body must be json in UTF-8, json response body is always UTF-8 (RFC 8259)
+    public static RawJson of(byte[] body) {
+        return new RawJson(new String(body, StandardCharsets.UTF_8));
+    }
+
+    public static boolean isJson(MediaType contentType) {
+        return contentType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                || contentType.getSubtype().endsWith("+json"));
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        if (generator instanceof JsonGeneratorImpl) {
+            generator.writeRawValue(value); // json text output
+            return;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(value)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSerializer) throws IOException {
+        serialize(generator, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,33 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.aggregate") // read values from properties which behind 'callerapp.config.aggregate' prefix
+@Data // using lombok to get getter and setter method
+public class AggregateConfig {
+
+    /**
+     * These values are used by aggregate api which call many CallerService methods in parallel.
+     * @see pers.yewin.restapisamplecallerservice.service.AggregateCallerService
+     */
+
+    private int corePoolSize = 8; // one thread for every response demo api
+    private int maxPoolSize = 32;
+    private int queueCapacity = 100; // if queue is full, call will be rejected instead of waiting forever
+
+    private Duration deadline = Duration.ofSeconds(10); // global deadline for all calls in one aggregate request
+
+}
@@ -4,6 +4,10 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author: Ye Win
  * @created: 07/10/2022
@@ -56,4 +60,9 @@ public class AppConfig {
     private String errorNotFoundResponseDemoUrl;
     private String errorInternalServerErrorResponseDemoUrl;
 
+
+    // response cache time to live for GET endpoints, key is url field name without 'Url', eg. responseObjectListDemo.
+    // endpoints which are not in this map will not be cached.
+    private Map<String, Duration> cacheTtl = new HashMap<>();
+
 }
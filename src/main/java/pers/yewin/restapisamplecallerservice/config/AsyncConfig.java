@@ -0,0 +1,38 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.async") // read values from properties which behind 'callerapp.config.async' prefix
+@Data // using lombok to get getter and setter method
+public class AsyncConfig {
+
+    /**
+     * These values are used by async apis (/caller/async/{callName}) which call CallerService on bounded async executor.
+     * @see pers.yewin.restapisamplecallerservice.service.AsyncCallerService
+     */
+
+    private int corePoolSize = 16;
+    private int maxPoolSize = 64;
+    private int queueCapacity = 200; // if queue is full, call will be rejected with 503 instead of waiting
+
+    private Duration defaultTimeout = Duration.ofSeconds(10); // time from request until response, waiting in queue is included
+
+    // timeout by call name, eg. callerapp.config.async.timeouts.callRequestFileUploadDemo=30s
+    private Map<String, Duration> timeouts = new HashMap<>();
+
+}
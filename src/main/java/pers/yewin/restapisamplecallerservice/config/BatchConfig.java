@@ -0,0 +1,37 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.batch") // read values from properties which behind 'callerapp.config.batch' prefix
+@Data // using lombok to get getter and setter method
+public class BatchConfig {
+
+    /**
+     * These values are used by batch apis (/caller/batch) which buffer single items and send them as one list to receiver.
+     * @see pers.yewin.restapisamplecallerservice.client.MicroBatcher
+     */
+
+    private int maxBatchSize = 100; // batch is sent when it has this many items
+    private Duration maxDelay = Duration.ofMillis(20); // or when first item of the batch has waited this long, whichever comes first
+
+    private int maxPendingItems = 10000; // items which are buffered or being sent, new items will be rejected with 503 if there are more
+
+    private int senders = 4; // max batches which are sending at the same time
+    private int queueCapacity = 100; // full batches which are waiting for free sender
+
+    private Duration timeout = Duration.ofSeconds(10); // time from request until response of that item
+
+}
@@ -0,0 +1,44 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.bulkupload") // read values from properties which behind 'callerapp.config.bulkupload' prefix
+@Data // using lombok to get getter and setter method
+public class BulkUploadConfig {
+
+    /**
+     * These values are used by bulk upload engine which uploads files and chunks of large files in parallel.
+     * @see pers.yewin.restapisamplecallerservice.service.BulkUploadService
+     */
+
+    // only these files under resources folder can be uploaded, and they are uploaded when files param is not given.
+    // file name from the client is never used as path, else client can upload our own application.properties or class files.
+    private List<String> files = Arrays.asList("test.xlsx", "test2.xlsx");
+
+    private int parallelism = 4; // max chunks which are uploading at the same time (for all bulk uploads)
+    private int queueCapacity = 1000; // chunks which are waiting for free thread, new chunks will be failed (and can resume later) if queue is full
+
+    private DataSize chunkSize = DataSize.ofMegabytes(4); // file which is larger than this will be split into chunks
+
+    private int maxChunkAttempts = 3; // attempts for one chunk before it's marked as failed
+    private Duration chunkRetryBackoff = Duration.ofMillis(500); // wait before next attempt of failed chunk
+
+    private Duration statusRetention = Duration.ofHours(1); // upload status is kept for resume and progress until this duration after last access
+
+}
@@ -0,0 +1,33 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.compression") // read values from properties which behind 'callerapp.config.compression' prefix
+@Data // using lombok to get getter and setter method
+public class CompressionConfig {
+
+    /**
+     * These values are used by response compression of outbound api callings.
+     * Compression of our own responses (to the client of this service) is set by spring boot properties (server.compression.*).
+     * @see pers.yewin.restapisamplecallerservice.interceptor.CompressionInterceptor
+     */
+
+    private boolean enabled = true;
+
+    private List<String> encodings = Arrays.asList("gzip", "deflate"); // sent in Accept-Encoding header, only gzip, x-gzip, deflate (and identity) are allowed, checked at start up
+
+}
@@ -0,0 +1,55 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.api.receiverservice") // read values from properties which behind 'callerapp.api.receiverservice' prefix
+@Data // using lombok to get getter and setter method
+public class EndpointDescriptorConfig {
+
+    /**
+     * Descriptors of receiver apis from endpoints.yml, they are compiled once at start up by EndpointRegistry.
+     * Key of 'endpoints' is url field name of AppConfig without 'Url', eg. responseObjectDemo.
+     * @see pers.yewin.restapisamplecallerservice.client.EndpointRegistry
+     */
+
+    private Map<String, Descriptor> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class Descriptor {
+
+        private HttpMethod method = HttpMethod.GET;
+        private String url;
+        private Map<String, String> uriVariables = new LinkedHashMap<>();
+        private Map<String, String> queryParams = new LinkedHashMap<>();
+
+        private String contentType;
+        private boolean basicAuth; // add Basic Authorization header with receiver service credentials
+        private Map<String, String> headers = new LinkedHashMap<>();
+
+        private String body; // json, it's converted into bodyType at start up
+        private String bodyType;
+        private Map<String, List<String>> files = new LinkedHashMap<>(); // form field name -> file names under resources folder
+
+        private String responseType = "String";
+        private boolean passThrough; // json response body is given to client as it is without reading into response-type
+        private String errorType; // error response body is read into this type when status is not expected status
+        private List<Integer> expectedStatus = Collections.singletonList(200);
+    }
+}
@@ -0,0 +1,29 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.execution") // read values from properties which behind 'callerapp.config.execution' prefix
+@Data // using lombok to get getter and setter method
+public class ExecutionConfig {
+
+    /**
+     * These values decide which threads will run http requests of this service.
+     * @see pers.yewin.restapisamplecallerservice.config.VirtualThreadConfigurer
+     */
+
+    // false: tomcat platform thread pool (server.tomcat.threads.max)
+    // true: one virtual thread per request, it needs java 21+, else it will fall back to platform threads with warning log.
+    private boolean virtualThreads = false;
+
+}
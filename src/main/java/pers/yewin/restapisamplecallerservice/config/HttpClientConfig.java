@@ -0,0 +1,43 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.httpclient") // read values from properties which behind 'callerapp.config.httpclient' prefix
+@Data // using lombok to get getter and setter method
+public class HttpClientConfig {
+
+    /**
+     * These values are used by the client engines behind the RestTemplate bean.
+     * @see pers.yewin.restapisamplecallerservice.client.ClientEngine
+     * Default values below will be used if you don't set them in application.properties.
+     */
+
+    private String engine = "pooled"; // which client engine to use, 'pooled' (Apache HttpClient), 'simple' (HttpURLConnection) or 'http2' (jdk HttpClient)
+
+    private int maxTotal = 200; // max connections in the pool for all routes (host:port)
+    private int maxPerRoute = 50; // max connections for one route, all our receiver apis are on same route.
+
+    private Duration connectTimeout = Duration.ofSeconds(5); // time to open tcp connection
+    private Duration readTimeout = Duration.ofSeconds(30); // time to wait data from socket
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5); // time to wait free connection from the pool
+
+    private Duration idleTimeout = Duration.ofSeconds(30); // idle connections which are older than this will be closed by evictor thread
+    private Duration timeToLive = Duration.ofMinutes(5); // max life time of one pooled connection
+    private Duration validateAfterInactivity = Duration.ofSeconds(2); // re-check stale connection before reuse if it was idle longer than this
+
+    private int http2MaxConcurrentStreams = 100; // http2 engine, max requests at the same time, more requests wait free stream until connection request timeout
+
+}
@@ -0,0 +1,28 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.metrics") // read values from properties which behind 'callerapp.config.metrics' prefix
+@Data // using lombok to get getter and setter method
+public class MetricsConfig {
+
+    /**
+     * These values are used by metrics of outbound api callings.
+     * Percentiles and histogram buckets are set by spring boot properties (management.metrics.distribution.*).
+     * @see pers.yewin.restapisamplecallerservice.client.OutboundMetrics
+     */
+
+    private boolean enabled = true;
+
+}
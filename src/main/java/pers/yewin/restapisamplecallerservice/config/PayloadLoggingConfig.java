@@ -0,0 +1,36 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.payloadlogging") // read values from properties which behind 'callerapp.config.payloadlogging' prefix
+@Data // using lombok to get getter and setter method
+public class PayloadLoggingConfig {
+
+    /**
+     * These values are used by logging of request data, headers and response data of api callings.
+     * @see pers.yewin.restapisamplecallerservice.logging.PayloadLogger
+     */
+
+    private double sampleRate = 1.0; // 0.0 - 1.0, rate of requests which payloads are logged
+
+    private int maxLength = 1024; // max characters of one logged request data or response data, rest will be cut
+
+    // values of these headers will be replaced with ****** in log
+    private Set<String> redactedHeaders = new LinkedHashSet<>(Arrays.asList("Authorization", "Proxy-Authorization", "Cookie", "Set-Cookie"));
+
+}
@@ -0,0 +1,27 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.api.receiverservice.basicauth.credentials") // read values from properties which behind 'callerapp.api.receiverservice.basicauth.credentials' prefix
+@Data // using lombok to get getter and setter method
+public class ReceiverServiceCredentialsConfig {
+
+    /**
+     * Basic auth username and password of receiver service, they are used by endpoints which have 'basic-auth: true' in endpoints.yml.
+     */
+
+    private String username;
+    private String password;
+
+}
@@ -0,0 +1,87 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.resilience") // read values from properties which behind 'callerapp.config.resilience' prefix
+@Data // using lombok to get getter and setter method
+public class ResilienceConfig {
+
+    /**
+     * These values are used by circuit breaker and bulkhead of every receiver endpoint.
+     * 'defaults' is used for all endpoints, and you can override some values for one endpoint under 'endpoints'.
+     * Key of 'endpoints' is url field name of AppConfig without 'Url', eg. requestFromHeaderAndBulkFileUploadDemo.
+     * @see pers.yewin.restapisamplecallerservice.interceptor.ResilienceInterceptor
+     */
+
+    private boolean enabled = true;
+
+    private Settings defaults = Settings.defaultSettings();
+
+    private Map<String, Settings> endpoints = new HashMap<>();
+
+    // get settings of given endpoint, values which are not overridden for that endpoint will come from defaults.
+    public Settings getEndpointSettings(String endpoint) {
+        Settings override = endpoints.get(endpoint);
+        if (override == null) {
+            return defaults;
+        }
+        Settings settings = new Settings();
+        settings.setFailureRateThreshold(override.getFailureRateThreshold() != null ? override.getFailureRateThreshold() : defaults.getFailureRateThreshold());
+        settings.setSlowCallRateThreshold(override.getSlowCallRateThreshold() != null ? override.getSlowCallRateThreshold() : defaults.getSlowCallRateThreshold());
+        settings.setSlowCallDurationThreshold(override.getSlowCallDurationThreshold() != null ? override.getSlowCallDurationThreshold() : defaults.getSlowCallDurationThreshold());
+        settings.setSlidingWindowSize(override.getSlidingWindowSize() != null ? override.getSlidingWindowSize() : defaults.getSlidingWindowSize());
+        settings.setMinimumNumberOfCalls(override.getMinimumNumberOfCalls() != null ? override.getMinimumNumberOfCalls() : defaults.getMinimumNumberOfCalls());
+        settings.setWaitDurationInOpenState(override.getWaitDurationInOpenState() != null ? override.getWaitDurationInOpenState() : defaults.getWaitDurationInOpenState());
+        settings.setPermittedNumberOfCallsInHalfOpenState(override.getPermittedNumberOfCallsInHalfOpenState() != null ? override.getPermittedNumberOfCallsInHalfOpenState() : defaults.getPermittedNumberOfCallsInHalfOpenState());
+        settings.setMaxConcurrentCalls(override.getMaxConcurrentCalls() != null ? override.getMaxConcurrentCalls() : defaults.getMaxConcurrentCalls());
+        settings.setMaxWaitDuration(override.getMaxWaitDuration() != null ? override.getMaxWaitDuration() : defaults.getMaxWaitDuration());
+        return settings;
+    }
+
+    @Data
+    public static class Settings {
+
+        /** circuit breaker **/
+        private Float failureRateThreshold; // percentage of failed calls (error or 5xx) to open the circuit
+        private Float slowCallRateThreshold; // percentage of slow calls to open the circuit
+        private Duration slowCallDurationThreshold; // call which is longer than this is slow call
+        private Integer slidingWindowSize; // number of last calls to calculate the rates
+        private Integer minimumNumberOfCalls; // rates are calculated only after this number of calls
+        private Duration waitDurationInOpenState; // after this duration, circuit will be half open and allow probe calls
+        private Integer permittedNumberOfCallsInHalfOpenState; // number of probe calls in half open state
+
+        /** bulkhead **/
+        private Integer maxConcurrentCalls; // max concurrent calls to one endpoint
+        private Duration maxWaitDuration; // how long to wait for free slot when bulkhead is full
+
+        public static Settings defaultSettings() {
+            Settings settings = new Settings();
+            settings.setFailureRateThreshold(50f);
+            settings.setSlowCallRateThreshold(100f);
+            settings.setSlowCallDurationThreshold(Duration.ofSeconds(5));
+            settings.setSlidingWindowSize(20);
+            settings.setMinimumNumberOfCalls(10);
+            settings.setWaitDurationInOpenState(Duration.ofSeconds(30));
+            settings.setPermittedNumberOfCallsInHalfOpenState(3);
+            settings.setMaxConcurrentCalls(20);
+            settings.setMaxWaitDuration(Duration.ZERO);
+            return settings;
+        }
+    }
+
+}
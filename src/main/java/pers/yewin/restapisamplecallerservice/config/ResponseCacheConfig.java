@@ -0,0 +1,36 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.cache") // read values from properties which behind 'callerapp.config.cache' prefix
+@Data // using lombok to get getter and setter method
+public class ResponseCacheConfig {
+
+    /**
+     * These values are used by response cache of GET api callings.
+     * Time to live for every endpoint is in AppConfig (next to the urls), this class is for whole cache.
+     * @see pers.yewin.restapisamplecallerservice.interceptor.ResponseCacheInterceptor
+     */
+
+    private boolean enabled = true;
+
+    private DataSize maximumWeight = DataSize.ofMegabytes(50); // max total size of cached response bodies, old and less used entries will be evicted
+
+    private List<String> keyHeaders = Arrays.asList("Accept", "Accept-Encoding", "Authorization"); // request headers which make different cache entry
+
+}
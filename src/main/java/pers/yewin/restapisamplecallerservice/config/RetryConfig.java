@@ -0,0 +1,47 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.retry") // read values from properties which behind 'callerapp.config.retry' prefix
+@Data // using lombok to get getter and setter method
+public class RetryConfig {
+
+    /**
+     * These values are used by retry of idempotent api callings.
+     * @see pers.yewin.restapisamplecallerservice.interceptor.RetryInterceptor
+     */
+
+    private boolean enabled = true;
+
+    private int maxAttempts = 3; // first call + retries
+
+    private Duration initialBackoff = Duration.ofMillis(100); // backoff before first retry
+
+    private Duration maxBackoff = Duration.ofSeconds(2); // backoff will not grow more than this
+
+    private double multiplier = 2.0; // backoff will be multiplied by this for every retry
+
+    private List<String> methods = Arrays.asList("GET", "HEAD", "PUT", "DELETE", "OPTIONS"); // only idempotent methods can be retried
+
+    private List<Integer> retryableStatuses = Arrays.asList(502, 503, 504); // receiver response status which is worth to retry
+
+    private double budgetRatio = 0.1; // every call adds this token into retry budget, so, 0.1 means retries can be 10% of calls
+
+    private int budgetMaxTokens = 10; // max retries which can be saved in retry budget
+
+}
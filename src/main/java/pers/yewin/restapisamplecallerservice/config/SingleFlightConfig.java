@@ -0,0 +1,34 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.singleflight") // read values from properties which behind 'callerapp.config.singleflight' prefix
+@Data // using lombok to get getter and setter method
+public class SingleFlightConfig {
+
+    /**
+     * These values are used by single-flight (request coalescing) of api callings.
+     * @see pers.yewin.restapisamplecallerservice.interceptor.SingleFlightInterceptor
+     */
+
+    private boolean enabled = true;
+
+    private List<String> methods = Arrays.asList("GET", "HEAD"); // only idempotent methods can share one response
+
+    private List<String> keyHeaders = Arrays.asList("Accept", "Accept-Encoding", "Authorization"); // request headers which make different key
+
+}
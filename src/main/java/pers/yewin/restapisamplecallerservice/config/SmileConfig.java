@@ -0,0 +1,30 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.smile") // read values from properties which behind 'callerapp.config.smile' prefix
+@Data // using lombok to get getter and setter method
+public class SmileConfig {
+
+    /**
+     * These values are used by Smile (binary json) content negotiation of outbound api callings.
+     * Our own apis always answer with Smile when client asks it in Accept header, and json is the default.
+     * @see pers.yewin.restapisamplecallerservice.client.SmileNegotiator
+     */
+
+    private boolean enabled = true; // add 'Accept: application/x-jackson-smile, application/json;q=0.9' for object response types
+
+    private boolean requestBody = true; // send json request body as smile to receiver which has answered with smile
+
+}
@@ -0,0 +1,30 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+
+@Configuration // declare class as bean
+@ConfigurationProperties(prefix = "callerapp.config.tracing") // read values from properties which behind 'callerapp.config.tracing' prefix
+@Data // using lombok to get getter and setter method
+public class TracingConfig {
+
+    /**
+     * These values are used by tracing of inbound requests and outbound api callings.
+     * @see pers.yewin.restapisamplecallerservice.tracing.TracingFilter
+     * @see pers.yewin.restapisamplecallerservice.tracing.OutboundTracer
+     */
+
+    private boolean enabled = true;
+
+    private boolean reportSpans = true; // write finished spans to the log
+
+}
@@ -0,0 +1,97 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import pers.yewin.restapisamplecallerservice.client.VirtualThreads;
+import pers.yewin.restapisamplecallerservice.tracing.TracingTaskDecorator;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.config
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+public class VirtualThreadConfigurer implements TomcatProtocolHandlerCustomizer<ProtocolHandler>, WebMvcConfigurer, DisposableBean {
+
+    /**
+     * Every CallerController method waits for receiver api response by blocking RestTemplate call,
+     * so, one request keeps one tomcat thread until receiver is finished and 200 tomcat threads means 200 concurrent requests only.
+     * When callerapp.config.execution.virtual-threads=true, tomcat will run every request on new virtual thread instead,
+     * and blocking RestTemplate call will only park that virtual thread, so, thousands of concurrent requests don't need bigger thread pool.
+     * Streaming (StreamingResponseBody) endpoints are also moved to virtual threads by async support executor.
+     * After that, http client pool size (callerapp.config.httpclient) and bulkhead are the real limits of outbound calls.
+     * Async support executor (both modes) also copies trace id of the request into streaming threads.
+     *
+     * Note: blocking inside synchronized block pins the virtual thread to its carrier thread on java 21,
+     * so, don't do api calling inside synchronized blocks (Apache HttpClient pool and logback already use ReentrantLock).
+     */
+
+    private final ExecutorService virtualThreadExecutor;
+    private final TracingTaskDecorator tracingTaskDecorator;
+
+    public VirtualThreadConfigurer(ExecutionConfig executionConfig, TracingTaskDecorator tracingTaskDecorator) {
+        this.virtualThreadExecutor = executionConfig.isVirtualThreads() ? createExecutor() : null;
+        this.tracingTaskDecorator = tracingTaskDecorator;
+    }
+
+    private static ExecutorService createExecutor() {
+        if (!VirtualThreads.isSupported()) {
+            log.warn("Virtual threads are not supported on java {}, platform threads will be used", System.getProperty("java.version"));
+            return null;
+        }
+        try {
+            ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("request-virtual-");
+            log.info("Http requests will run on virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual thread executor can't be created, platform threads will be used, error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreadExecutor != null;
+    }
+
+    // replace tomcat thread pool
+    @Override
+    public void customize(ProtocolHandler protocolHandler) {
+        if (virtualThreadExecutor != null) {
+            protocolHandler.setExecutor(virtualThreadExecutor);
+        }
+    }
+
+    // executor for StreamingResponseBody and other async requests, trace id of the request is copied into it.
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        if (virtualThreadExecutor != null) {
+            ConcurrentTaskExecutor asyncExecutor = new ConcurrentTaskExecutor(virtualThreadExecutor);
+            asyncExecutor.setTaskDecorator(tracingTaskDecorator);
+            configurer.setTaskExecutor(asyncExecutor);
+        } else {
+            SimpleAsyncTaskExecutor asyncExecutor = new SimpleAsyncTaskExecutor("mvc-async-"); // same with spring mvc default executor
+            asyncExecutor.setTaskDecorator(tracingTaskDecorator);
+            configurer.setTaskExecutor(asyncExecutor);
+        }
+    }
+
+    // tomcat doesn't shut down executor which is set from outside
+    @Override
+    public void destroy() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+}
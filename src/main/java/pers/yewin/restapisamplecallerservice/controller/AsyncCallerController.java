@@ -0,0 +1,90 @@
+package pers.yewin.restapisamplecallerservice.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import pers.yewin.restapisamplecallerservice.logging.PayloadLogger;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.AsyncCallerService;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.controller
+ */
+
+@RestController // for rest endpoint
+@Slf4j // for logging by using lombok
+@RequestMapping("/caller/async")
+public class AsyncCallerController {
+
+    /**
+     * Async version of CallerController apis, call name is same with CallerService method name.
+     * eg. /caller/async/callResponseObjectDemo is async version of /caller/callResponseObjectDemoAPI
+     * Method returns DeferredResult, so, tomcat thread goes back to the pool directly, and response is sent when api calling is finished.
+     *
+     * 200 -> call is finished (receiver error status is inside CallerServiceResponse, same with sync apis)
+     * 400 -> unknown call name
+     * 503 -> async executor is full, client can retry later
+     * 504 -> call is not finished before timeout of that call (callerapp.config.async.timeouts)
+     */
+
+    @Autowired
+    AsyncCallerService asyncCallerService;
+
+    @Autowired
+    PayloadLogger payloadLogger;
+
+    @GetMapping("/{callName}")
+    public DeferredResult<ResponseEntity<CallerServiceResponse>> callAsync(@PathVariable String callName){
+
+        log.info("Enter callAsync method, call: {}", callName);
+
+        Duration timeout = asyncCallerService.getTimeout(callName);
+        DeferredResult<ResponseEntity<CallerServiceResponse>> deferredResult =
+                new DeferredResult<>(timeout.toMillis(), ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build());
+
+        CompletableFuture<CallerServiceResponse> future;
+        try{
+            future = asyncCallerService.call(callName);
+        }catch(IllegalArgumentException e){
+            log.error("error: {}", e.getMessage());
+            deferredResult.setResult(ResponseEntity.badRequest().build()); // unknown call name
+            return deferredResult;
+        }catch(RejectedExecutionException e){
+            log.warn("Call {} is rejected by async executor", callName);
+            deferredResult.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build());
+            return deferredResult;
+        }
+
+        // timeout response is already set in constructor, here I only drop the call which is no longer needed.
+        deferredResult.onTimeout(() -> {
+            log.warn("Call {} is not finished in {}", callName, timeout);
+            future.cancel(true);
+        });
+
+        future.whenComplete((callerResponse, e) -> {
+            if (e == null) {
+                payloadLogger.result(callerResponse);
+                log.info("Exit callAsync method, call: {}", callName);
+                deferredResult.setResult(ResponseEntity.ok().body(callerResponse));
+            } else if (!future.isCancelled()) {
+                log.error("error: {}", e.getMessage());
+                deferredResult.setResult(ResponseEntity.internalServerError().build());
+            }
+        });
+        return deferredResult;
+    }
+}
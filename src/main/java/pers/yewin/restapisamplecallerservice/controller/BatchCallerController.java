@@ -0,0 +1,89 @@
+package pers.yewin.restapisamplecallerservice.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import pers.yewin.restapisamplecallerservice.logging.PayloadLogger;
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.BatchCallerService;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.controller
+ */
+
+@RestController // for rest endpoint
+@Slf4j // for logging by using lombok
+@RequestMapping("/caller/batch")
+public class BatchCallerController {
+
+    /**
+     * Batch apis, client sends only one item (one student or one string), and many items from many clients are
+     * sent to receiver together as one list (callerapp.config.batch).
+     * eg. 1000 clients call /caller/batch/callRequestBodyObjectListDemoAPI at the same time -> receiver gets about 10 api callings with 100 students.
+     * Method returns DeferredResult, so, tomcat thread is not waiting while item is in the buffer.
+     *
+     * 200 -> batch is sent (receiver error status is inside CallerServiceResponse, same with sync apis)
+     * 503 -> too many items are waiting, client can retry later
+     * 504 -> batch of the item is not finished before timeout (item can still be sent with its batch)
+     */
+
+    @Autowired
+    BatchCallerService batchCallerService;
+
+    @Autowired
+    PayloadLogger payloadLogger;
+
+    @PostMapping("/callRequestBodyObjectListDemoAPI")
+    public DeferredResult<ResponseEntity<CallerServiceResponse>> callRequestBodyObjectListDemoAPI(@RequestBody Student student){
+        return submit("callRequestBodyObjectListDemoAPI", () -> batchCallerService.submitStudent(student));
+    }
+
+    @PostMapping("/callRequestBodyStringListDemoAPI")
+    public DeferredResult<ResponseEntity<CallerServiceResponse>> callRequestBodyStringListDemoAPI(@RequestBody String value){
+        return submit("callRequestBodyStringListDemoAPI", () -> batchCallerService.submitString(value));
+    }
+
+    private DeferredResult<ResponseEntity<CallerServiceResponse>> submit(String apiName, Supplier<CompletableFuture<CallerServiceResponse>> submission){
+
+        log.info("Enter {} method", apiName);
+
+        DeferredResult<ResponseEntity<CallerServiceResponse>> deferredResult =
+                new DeferredResult<>(batchCallerService.getTimeout().toMillis(), ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build());
+
+        CompletableFuture<CallerServiceResponse> future;
+        try{
+            future = submission.get();
+        }catch(RejectedExecutionException e){
+            log.warn("Item of {} is rejected, error: {}", apiName, e.getMessage());
+            deferredResult.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build());
+            return deferredResult;
+        }
+
+        future.whenComplete((callerResponse, e) -> {
+            if (e == null) {
+                payloadLogger.result(callerResponse);
+                log.info("Exit {} method", apiName);
+                deferredResult.setResult(ResponseEntity.ok().body(callerResponse));
+            } else {
+                log.error("error: {}", e.getMessage());
+                deferredResult.setResult(ResponseEntity.internalServerError().build());
+            }
+        });
+        return deferredResult;
+    }
+}
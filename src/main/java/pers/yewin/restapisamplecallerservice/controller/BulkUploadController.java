@@ -0,0 +1,79 @@
+package pers.yewin.restapisamplecallerservice.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pers.yewin.restapisamplecallerservice.config.BulkUploadConfig;
+import pers.yewin.restapisamplecallerservice.logging.PayloadLogger;
+import pers.yewin.restapisamplecallerservice.model.response.BulkUploadStatus;
+import pers.yewin.restapisamplecallerservice.service.BulkUploadService;
+
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.controller
+ */
+
+@RestController // for rest endpoint
+@Slf4j // for logging by using lombok
+@RequestMapping("/caller/bulkupload")
+public class BulkUploadController {
+
+    @Autowired
+    BulkUploadService bulkUploadService;
+
+    @Autowired
+    BulkUploadConfig bulkUploadConfig;
+
+    @Autowired
+    PayloadLogger payloadLogger;
+
+    // start bulk upload, eg. POST /caller/bulkupload?files=test.xlsx,test2.xlsx
+    // upload will run in background, and response is accepted status with uploadId to check progress.
+    @PostMapping
+    public ResponseEntity<BulkUploadStatus> startUpload(@RequestParam(required = false) List<String> files){
+
+        try{
+            log.info("Enter startUpload method, files: {}", files);
+
+            BulkUploadStatus status = bulkUploadService.startUpload(files == null ? bulkUploadConfig.getFiles() : files);
+            payloadLogger.result(status);
+
+            log.info("Exit startUpload method");
+            return ResponseEntity.accepted().body(status);
+
+        }catch(IllegalArgumentException e){
+            log.error("error: {}", e.getMessage());
+            return ResponseEntity.badRequest().build(); // unknown file or file which is not allowed
+        }catch(Exception e){
+            log.error("error: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // check progress of bulk upload
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<BulkUploadStatus> getStatus(@PathVariable String uploadId){
+
+        BulkUploadStatus status = bulkUploadService.getStatus(uploadId);
+        return status == null ? ResponseEntity.notFound().build() : ResponseEntity.ok().body(status);
+    }
+
+    // upload failed chunks again
+    @PostMapping("/{uploadId}/resume")
+    public ResponseEntity<BulkUploadStatus> resumeUpload(@PathVariable String uploadId){
+
+        log.info("Enter resumeUpload method, uploadId: {}", uploadId);
+        BulkUploadStatus status = bulkUploadService.resumeUpload(uploadId);
+        return status == null ? ResponseEntity.notFound().build() : ResponseEntity.accepted().body(status);
+    }
+}
@@ -1,13 +1,28 @@
 package pers.yewin.restapisamplecallerservice.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pers.yewin.restapisamplecallerservice.codec.ElementConsumer;
+import pers.yewin.restapisamplecallerservice.codec.JsonCodec;
+import pers.yewin.restapisamplecallerservice.logging.PayloadLogger;
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+import pers.yewin.restapisamplecallerservice.model.response.AggregateResponse;
 import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.AggregateCallerService;
 import pers.yewin.restapisamplecallerservice.service.CallerService;
+import pers.yewin.restapisamplecallerservice.service.StreamingCallerService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 
 /**
  * @author: Ye Win
@@ -24,6 +39,18 @@ public class CallerController {
     @Autowired
     CallerService callerService;
 
+    @Autowired
+    AggregateCallerService aggregateCallerService;
+
+    @Autowired
+    StreamingCallerService streamingCallerService;
+
+    @Autowired
+    JsonCodec jsonCodec;
+
+    @Autowired
+    PayloadLogger payloadLogger;
+
     @GetMapping("/callResponseSingleStringDemoAPI")
     public ResponseEntity<CallerServiceResponse> callResponseSingleStringDemoAPI(){
 
@@ -31,7 +58,7 @@ public class CallerController {
             log.info("Enter callResponseSingleStringDemoAPI method");
 
             CallerServiceResponse callerResponse = callerService.callResponseSingleStringDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callResponseSingleStringDemoAPI method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -39,8 +66,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -53,7 +79,7 @@ public class CallerController {
             log.info("Enter callResponseSingleObjectDemo method");
 
             CallerServiceResponse callerResponse = callerService.callResponseSingleObjectDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callResponseSingleObjectDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -61,8 +87,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -75,7 +100,7 @@ public class CallerController {
             log.info("Enter callResponseObjectDemo method");
 
             CallerServiceResponse callerResponse = callerService.callResponseObjectDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callResponseObjectDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -83,8 +108,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -97,7 +121,7 @@ public class CallerController {
             log.info("Enter callResponseStringListDemo method");
 
             CallerServiceResponse callerResponse = callerService.callResponseStringListDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callResponseStringListDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -105,8 +129,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -119,7 +142,7 @@ public class CallerController {
             log.info("Enter callResponseObjectListDemo method");
 
             CallerServiceResponse callerResponse = callerService.callResponseObjectListDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callResponseObjectListDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -127,8 +150,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -141,7 +163,7 @@ public class CallerController {
             log.info("Enter callResponseCustomObjectListDemo method");
 
             CallerServiceResponse callerResponse = callerService.callResponseCustomObjectListDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callResponseCustomObjectListDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -149,8 +171,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -163,7 +184,7 @@ public class CallerController {
             log.info("Enter callResponseNestedObjectDemo method");
 
             CallerServiceResponse callerResponse = callerService.callResponseNestedObjectDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callResponseNestedObjectDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -171,8 +192,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -185,7 +205,7 @@ public class CallerController {
             log.info("Enter callResponseNestedObjectAndNestedObjectListDemo method");
 
             CallerServiceResponse callerResponse = callerService.callResponseNestedObjectAndNestedObjectListDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callResponseNestedObjectAndNestedObjectListDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -193,8 +213,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -207,7 +226,7 @@ public class CallerController {
             log.info("Enter callRequestBodyObjectDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestBodyObjectDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestBodyObjectDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -215,8 +234,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -229,7 +247,7 @@ public class CallerController {
             log.info("Enter callRequestBodyObjectListDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestBodyObjectListDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestBodyObjectListDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -237,8 +255,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -251,7 +268,7 @@ public class CallerController {
             log.info("Enter callRequestBodyStringListDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestBodyStringListDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestBodyStringListDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -259,8 +276,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -273,7 +289,7 @@ public class CallerController {
             log.info("Enter callRequestPathVariableIntegerDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestPathVariableIntegerDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestPathVariableIntegerDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -281,8 +297,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -295,7 +310,7 @@ public class CallerController {
             log.info("Enter callRequestMultiPathVariablesDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestMultiPathVariablesDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestMultiPathVariablesDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -303,8 +318,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -317,7 +331,7 @@ public class CallerController {
             log.info("Enter callRequestParamStringDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestParamStringDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestParamStringDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -325,8 +339,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -339,7 +352,7 @@ public class CallerController {
             log.info("Enter callRequestMultiParamsDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestMultiParamsDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestMultiParamsDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -347,8 +360,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -361,7 +373,7 @@ public class CallerController {
             log.info("Enter callRequestPathVariableAndParamsDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestPathVariableAndParamsDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestPathVariableAndParamsDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -369,8 +381,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -383,7 +394,7 @@ public class CallerController {
             log.info("Enter callRequestFromHeaderDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestFromHeaderDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestFromHeaderDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -391,8 +402,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -405,7 +415,7 @@ public class CallerController {
             log.info("Enter callRequestFromHeaderAndRequestParamDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestFromHeaderAndRequestParamDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestFromHeaderAndRequestParamDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -413,8 +423,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -427,7 +436,7 @@ public class CallerController {
             log.info("Enter callRequestFromHeaderAndRequestBodyDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestFromHeaderAndRequestBodyDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestFromHeaderAndRequestBodyDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -435,8 +444,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -449,7 +457,7 @@ public class CallerController {
             log.info("Enter callRequestFileUploadDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestFileUploadDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestFileUploadDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -457,8 +465,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -471,7 +478,7 @@ public class CallerController {
             log.info("Enter callRequestFromHeaderAndBulkFileUploadDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestFromHeaderAndBulkFileUploadDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestFromHeaderAndBulkFileUploadDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -479,8 +486,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -493,7 +499,7 @@ public class CallerController {
             log.info("Enter callRequestPathVariableAndResponseObjectDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestPathVariableAndResponseObjectDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestPathVariableAndResponseObjectDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -501,8 +507,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -515,7 +520,7 @@ public class CallerController {
             log.info("Enter callRequestParamStringAndResponseObjectListDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestParamStringAndResponseObjectListDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestParamStringAndResponseObjectListDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -523,8 +528,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -537,7 +541,7 @@ public class CallerController {
             log.info("Enter callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -545,8 +549,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -559,7 +562,7 @@ public class CallerController {
             log.info("Enter callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -567,8 +570,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -581,7 +583,7 @@ public class CallerController {
             log.info("Enter callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo method");
 
             CallerServiceResponse callerResponse = callerService.callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -589,8 +591,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -603,7 +604,7 @@ public class CallerController {
             log.info("Enter callErrorBadRequestResponseDemo method");
 
             CallerServiceResponse callerResponse = callerService.callErrorBadRequestResponseDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callErrorBadRequestResponseDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -611,8 +612,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -625,7 +625,7 @@ public class CallerController {
             log.info("Enter callErrorNotFoundResponseDemo method");
 
             CallerServiceResponse callerResponse = callerService.callErrorNotFoundResponseDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callErrorNotFoundResponseDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -633,8 +633,7 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
-            log.error("error: {}", e.getMessage());
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -647,7 +646,7 @@ public class CallerController {
             log.info("Enter callErrorInternalServerErrorResponseDemo method");
 
             CallerServiceResponse callerResponse = callerService.callErrorInternalServerErrorResponseDemo();
-            log.info("Response data: {}", callerResponse);
+            payloadLogger.result(callerResponse);
 
             log.info("Exit callErrorInternalServerErrorResponseDemo method");
             return ResponseEntity.ok().body(callerResponse); // return ok response with body
@@ -655,9 +654,77 @@ public class CallerController {
             // return new ResponseEntity(callerResponse, HttpStatus.OK);
 
         }catch(Exception e){
-            e.printStackTrace();
+            log.error("error: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+
+    // call many apis in parallel, eg. /caller/aggregate?calls=callResponseObjectDemo,callResponseObjectListDemo
+    // if calls param is not given, all response demo apis will be called.
+    @GetMapping("/aggregate")
+    public ResponseEntity<AggregateResponse> callAggregate(@RequestParam(required = false) List<String> calls){
+
+        try{
+            log.info("Enter callAggregate method, calls: {}", calls);
+
+            AggregateResponse aggregateResponse = aggregateCallerService.callAggregate(calls);
+            payloadLogger.result(aggregateResponse);
+
+            log.info("Exit callAggregate method");
+            return ResponseEntity.ok().body(aggregateResponse);
+
+        }catch(IllegalArgumentException e){
             log.error("error: {}", e.getMessage());
+            return ResponseEntity.badRequest().build(); // unknown call name
+        }catch(Exception e){
+            log.error("error: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
+
+
+    // stream students from receiver to client as NDJSON (one json object per line), without reading whole list into memory.
+    // http status is already sent when streaming starts, so, if api calling is failed, response will be cut and error is in log.
+    @GetMapping(value = "/stream/callResponseObjectListDemoAPI", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamResponseObjectListDemo(){
+        log.info("Enter streamResponseObjectListDemo method");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> writeNdjson(out, streamingCallerService::streamResponseObjectListDemo));
+    }
+
+    @GetMapping(value = "/stream/callRequestParamStringAndResponseObjectListDemoAPI", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRequestParamStringAndResponseObjectListDemo(){
+        log.info("Enter streamRequestParamStringAndResponseObjectListDemo method");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> writeNdjson(out, streamingCallerService::streamRequestParamStringAndResponseObjectListDemo));
+    }
+
+    @GetMapping(value = "/stream/callResponseNestedObjectAndNestedObjectListDemoAPI", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamResponseNestedObjectAndNestedObjectListDemo(){
+        log.info("Enter streamResponseNestedObjectAndNestedObjectListDemo method");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> writeNdjson(out, streamingCallerService::streamResponseNestedObjectAndNestedObjectListDemo));
+    }
+
+    private void writeNdjson(OutputStream out, StudentStreamCall streamCall) throws IOException {
+        try (JsonGenerator generator = jsonCodec.createNdjsonGenerator(out)) {
+            long count = streamCall.stream(student -> jsonCodec.writeNdjson(generator, student));
+            if (count > 0) {
+                generator.writeRaw('\n'); // last line also needs line break
+            }
+            log.info("Exit streaming method, students: {}", count);
+        } catch (Exception e) {
+            log.error("error while streaming: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface StudentStreamCall {
+        long stream(ElementConsumer<Student> consumer) throws IOException;
+    }
 }
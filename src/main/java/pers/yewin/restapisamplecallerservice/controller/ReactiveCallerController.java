@@ -0,0 +1,189 @@
+package pers.yewin.restapisamplecallerservice.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pers.yewin.restapisamplecallerservice.logging.PayloadLogger;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.ReactiveCallerService;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.controller
+ */
+
+@RestController // for rest endpoint
+@Slf4j // for logging by using lombok
+@RequestMapping("/caller/reactive")
+public class ReactiveCallerController {
+
+    /**
+     * Same endpoints with CallerController, but every endpoint returns Mono.
+     * Spring MVC will release the tomcat thread while waiting for the receiver response and will write the response
+     * when Mono is completed, so, slow receiver api will not hold our request threads.
+     * @see CallerController
+     */
+
+    @Autowired
+    ReactiveCallerService reactiveCallerService;
+
+    @Autowired
+    PayloadLogger payloadLogger;
+
+    @GetMapping("/callResponseSingleStringDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callResponseSingleStringDemoAPI(){
+        return reactiveCallerService.callResponseSingleStringDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callResponseSingleObjectDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callResponseSingleObjectDemo(){
+        return reactiveCallerService.callResponseSingleObjectDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callResponseObjectDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callResponseObjectDemo(){
+        return reactiveCallerService.callResponseObjectDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callResponseStringListDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callResponseStringListDemo(){
+        return reactiveCallerService.callResponseStringListDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callResponseObjectListDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callResponseObjectListDemo(){
+        return reactiveCallerService.callResponseObjectListDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callResponseCustomObjectListDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callResponseCustomObjectListDemo(){
+        return reactiveCallerService.callResponseCustomObjectListDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callResponseNestedObjectDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callResponseNestedObjectDemo(){
+        return reactiveCallerService.callResponseNestedObjectDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callResponseNestedObjectAndNestedObjectListDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callResponseNestedObjectAndNestedObjectListDemo(){
+        return reactiveCallerService.callResponseNestedObjectAndNestedObjectListDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestBodyObjectDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestBodyObjectDemo(){
+        return reactiveCallerService.callRequestBodyObjectDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestBodyObjectListDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestBodyObjectListDemo(){
+        return reactiveCallerService.callRequestBodyObjectListDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestBodyStringListDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestBodyStringListDemo(){
+        return reactiveCallerService.callRequestBodyStringListDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestPathVariableIntegerDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestPathVariableIntegerDemo(){
+        return reactiveCallerService.callRequestPathVariableIntegerDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestMultiPathVariablesDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestMultiPathVariablesDemo(){
+        return reactiveCallerService.callRequestMultiPathVariablesDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestParamStringDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestParamStringDemo(){
+        return reactiveCallerService.callRequestParamStringDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestMultiParamsDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestMultiParamsDemo(){
+        return reactiveCallerService.callRequestMultiParamsDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestPathVariableAndParamsDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestPathVariableAndParamsDemo(){
+        return reactiveCallerService.callRequestPathVariableAndParamsDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestFromHeaderDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestFromHeaderDemo(){
+        return reactiveCallerService.callRequestFromHeaderDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestFromHeaderAndRequestParamDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestFromHeaderAndRequestParamDemo(){
+        return reactiveCallerService.callRequestFromHeaderAndRequestParamDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestFromHeaderAndRequestBodyDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestFromHeaderAndRequestBodyDemo(){
+        return reactiveCallerService.callRequestFromHeaderAndRequestBodyDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestFileUploadDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestFileUploadDemo(){
+        return reactiveCallerService.callRequestFileUploadDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestFromHeaderAndBulkFileUploadAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestFromHeaderAndBulkFileUpload(){
+        return reactiveCallerService.callRequestFromHeaderAndBulkFileUploadDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestPathVariableAndResponseObjectDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestPathVariableAndResponseObjectDemo(){
+        return reactiveCallerService.callRequestPathVariableAndResponseObjectDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestParamStringAndResponseObjectListDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestParamStringAndResponseObjectListDemo(){
+        return reactiveCallerService.callRequestParamStringAndResponseObjectListDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemo(){
+        return reactiveCallerService.callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo(){
+        return reactiveCallerService.callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo(){
+        return reactiveCallerService.callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callErrorBadRequestResponseDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callErrorBadRequestResponseDemo(){
+        return reactiveCallerService.callErrorBadRequestResponseDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callErrorNotFoundResponseDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callErrorNotFoundResponseDemo(){
+        return reactiveCallerService.callErrorNotFoundResponseDemo().map(this::toResponseEntity);
+    }
+
+    @GetMapping("/callErrorInternalServerErrorResponseDemoAPI")
+    public Mono<ResponseEntity<CallerServiceResponse>> callErrorInternalServerErrorResponseDemo(){
+        return reactiveCallerService.callErrorInternalServerErrorResponseDemo().map(this::toResponseEntity);
+    }
+
+
+    private ResponseEntity<CallerServiceResponse> toResponseEntity(CallerServiceResponse callerResponse){
+        payloadLogger.result(callerResponse);
+        return ResponseEntity.ok().body(callerResponse); // return ok response with body
+    }
+}
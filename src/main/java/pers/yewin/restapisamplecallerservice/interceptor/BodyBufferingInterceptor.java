@@ -0,0 +1,17 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+public interface BodyBufferingInterceptor {
+
+    /**
+     * Marker for interceptors which read whole response body into memory (eg. response cache, single-flight).
+     * These interceptors are not added into streaming RestTemplate, otherwise large response can't be streamed.
+     * @see pers.yewin.restapisamplecallerservice.RestapiSampleCallerServiceApplication#streamingRestTemplate method
+     */
+}
@@ -0,0 +1,81 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.client.DecompressingClientHttpResponse;
+import pers.yewin.restapisamplecallerservice.client.EndpointResolver;
+import pers.yewin.restapisamplecallerservice.client.OutboundMetrics;
+import pers.yewin.restapisamplecallerservice.config.CompressionConfig;
+
+import java.io.IOException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+@Component // create bean class
+@Order(InterceptorOrder.COMPRESSION)
+public class CompressionInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * This interceptor will ask receiver to compress response body (Accept-Encoding: gzip, deflate),
+     * and decompress gzip or deflate response body while RestTemplate reads it.
+     * Big json like ResponseObjectList and Student[] is usually 5-10 times smaller on the network.
+     * It is inner interceptor (only retry is nearer to the network), so, cache, single-flight and metrics see decompressed body.
+     * Compressed and saved bytes are recorded by endpoint (caller.outbound.compression.*).
+     * Request which already has Accept-Encoding header is not changed, and response in other encoding is returned as it is.
+     * Configured encodings are checked at start up, so, we never ask receiver for encoding which we can't decode.
+     */
+
+    private final CompressionConfig compressionConfig;
+    private final EndpointResolver endpointResolver;
+    private final OutboundMetrics outboundMetrics;
+    private final String acceptEncoding;
+
+    // throw IllegalArgumentException if configured encodings have encoding which can't be decoded, eg. br
+    public CompressionInterceptor(CompressionConfig compressionConfig, EndpointResolver endpointResolver, OutboundMetrics outboundMetrics) {
+        for (String encoding : compressionConfig.getEncodings()) {
+            String name = encoding.split(";")[0].trim(); // quality value is allowed, eg. gzip;q=1.0
+            if (!isSupported(name) && !"identity".equalsIgnoreCase(name)) {
+                throw new IllegalArgumentException("Encoding " + encoding + " of callerapp.config.compression.encodings can't be decoded, "
+                        + "only gzip, x-gzip, deflate and identity are supported");
+            }
+        }
+        this.compressionConfig = compressionConfig;
+        this.endpointResolver = endpointResolver;
+        this.outboundMetrics = outboundMetrics;
+        this.acceptEncoding = String.join(", ", compressionConfig.getEncodings());
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+
+        if (!compressionConfig.isEnabled() || request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            return execution.execute(request, body);
+        }
+
+        request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        ClientHttpResponse response = execution.execute(request, body);
+
+        String encoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (encoding == null || !isSupported(encoding.trim())) {
+            return response;
+        }
+        String endpoint = endpointResolver.resolve(request.getURI());
+        String contentEncoding = encoding.trim().toLowerCase();
+        return new DecompressingClientHttpResponse(response, contentEncoding, (compressedBytes, decompressedBytes) ->
+                outboundMetrics.recordCompression(endpoint, contentEncoding, compressedBytes, decompressedBytes));
+    }
+
+    private static boolean isSupported(String encoding) {
+        return "gzip".equalsIgnoreCase(encoding) || "x-gzip".equalsIgnoreCase(encoding) || "deflate".equalsIgnoreCase(encoding);
+    }
+}
@@ -0,0 +1,29 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+public final class InterceptorOrder {
+
+    /**
+     * Order of RestTemplate interceptors, lower value will run first (outer) and higher value will run nearer to the network.
+     * I keep gaps between values to add new interceptor in between later.
+     * Retry must be the last one, because calling execution again will go directly to the network and skip inner interceptors.
+     */
+
+    public static final int TRACING = 100;
+    public static final int METRICS = 200;
+    public static final int RESPONSE_CACHE = 400;
+    public static final int SINGLE_FLIGHT = 500;
+    public static final int RESILIENCE = 600;
+    public static final int COMPRESSION = 800;
+    public static final int SMILE_NEGOTIATION = 850; // resends body as json after 415, so, only retry is skipped for that second calling
+    public static final int RETRY = 900;
+
+    private InterceptorOrder() {
+    }
+}
@@ -0,0 +1,65 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.client.EndpointResolver;
+import pers.yewin.restapisamplecallerservice.client.ObservedClientHttpResponse;
+import pers.yewin.restapisamplecallerservice.client.OutboundMetrics;
+import pers.yewin.restapisamplecallerservice.config.MetricsConfig;
+
+import java.io.IOException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+@Component // create bean class
+@Order(InterceptorOrder.METRICS)
+public class MetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * This interceptor will record latency, status and body sizes of every RestTemplate api calling by endpoint name.
+     * It is outer interceptor, so, latency is what CallerService sees (cache hits, retries and circuit breaker rejections are included).
+     * Response is measured until RestTemplate closes it, so, reading response body is also included in latency,
+     * and response size is counted while the body is read (response is not buffered for metrics).
+     */
+
+    private final MetricsConfig metricsConfig;
+    private final EndpointResolver endpointResolver;
+    private final OutboundMetrics outboundMetrics;
+
+    public MetricsInterceptor(MetricsConfig metricsConfig, EndpointResolver endpointResolver, OutboundMetrics outboundMetrics) {
+        this.metricsConfig = metricsConfig;
+        this.endpointResolver = endpointResolver;
+        this.outboundMetrics = outboundMetrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+
+        if (!metricsConfig.isEnabled()) {
+            return execution.execute(request, body);
+        }
+
+        String endpoint = endpointResolver.resolve(request.getURI());
+        String method = request.getMethodValue();
+        long startTime = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getRawStatusCode();
+            // record metrics when RestTemplate closes the response
+            return new ObservedClientHttpResponse(response, responseBytes ->
+                    outboundMetrics.record(endpoint, method, status, null, System.nanoTime() - startTime, body.length, responseBytes));
+        } catch (IOException | RuntimeException e) {
+            outboundMetrics.record(endpoint, method, 0, e, System.nanoTime() - startTime, body.length, 0);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import pers.yewin.restapisamplecallerservice.apierrorhandler.CustomizeServiceUnAvailableException;
+import pers.yewin.restapisamplecallerservice.client.EndpointResolver;
+import pers.yewin.restapisamplecallerservice.client.ResponseCall;
+import pers.yewin.restapisamplecallerservice.config.ResilienceConfig;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+@Order(InterceptorOrder.RESILIENCE)
+public class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * This interceptor will protect every receiver endpoint with circuit breaker and bulkhead (by using resilience4j).
+     * Circuit breaker will open when too many calls are failed (error or 5xx status) or slow, and then calls to that endpoint
+     * will fail fast without waiting full timeout. After wait duration, few probe calls are allowed (half open) to check endpoint is back.
+     * Bulkhead will limit concurrent calls per endpoint, so, one slow endpoint (eg. bulk file upload) can't take all threads.
+     * When call is not permitted, CustomizeServiceUnAvailableException will be thrown.
+     * 4xx status is not counted as failure because that is the problem of our request, not receiver.
+     */
+
+    private final ResilienceConfig resilienceConfig;
+    private final EndpointResolver endpointResolver;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+    public ResilienceInterceptor(ResilienceConfig resilienceConfig, EndpointResolver endpointResolver, MeterRegistry meterRegistry) {
+        this.resilienceConfig = resilienceConfig;
+        this.endpointResolver = endpointResolver;
+
+        // state, calls and rates of every circuit breaker and bulkhead will be in metrics, tagged by endpoint name.
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        return protect(request.getURI(), () -> execution.execute(request, body));
+    }
+
+    // protect api calling with circuit breaker and bulkhead of that endpoint.
+    // it's public for api callings which can't go through interceptors, eg. streaming multipart upload.
+    public ClientHttpResponse protect(URI uri, ResponseCall responseCall) throws IOException {
+
+        if (!resilienceConfig.isEnabled()) {
+            return responseCall.call();
+        }
+
+        String endpoint = endpointResolver.resolve(uri);
+        Bulkhead bulkhead = getBulkhead(endpoint);
+        CircuitBreaker circuitBreaker = getCircuitBreaker(endpoint);
+
+        if (!bulkhead.tryAcquirePermission()) {
+            log.warn("Bulkhead is full for endpoint: {}", endpoint);
+            throw new CustomizeServiceUnAvailableException("Too many concurrent calls to " + endpoint);
+        }
+
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                log.warn("Circuit breaker is {} for endpoint: {}", circuitBreaker.getState(), endpoint);
+                throw new CustomizeServiceUnAvailableException("Circuit breaker is open for " + endpoint);
+            }
+
+            long start = circuitBreaker.getCurrentTimestamp();
+            try {
+                ClientHttpResponse response = responseCall.call();
+                long duration = circuitBreaker.getCurrentTimestamp() - start;
+                if (response.getRawStatusCode() >= 500) {
+                    circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                            new RestClientResponseException("Server error from " + endpoint, response.getRawStatusCode(), response.getStatusText(), null, null, null));
+                } else {
+                    circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+                }
+                return response;
+            } catch (IOException | RuntimeException | Error e) {
+                // every permission must be finished, even for Error, else half open circuit loses its probe calls and never closes.
+                circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+                throw e;
+            }
+        } finally {
+            // slot is released when response headers are arrived, request body (eg. file upload) is already sent at that time.
+            bulkhead.onComplete();
+        }
+    }
+
+    private CircuitBreaker getCircuitBreaker(String endpoint) {
+        return circuitBreakerRegistry.circuitBreaker(endpoint, () -> {
+            ResilienceConfig.Settings settings = resilienceConfig.getEndpointSettings(endpoint);
+            return CircuitBreakerConfig.custom()
+                    .failureRateThreshold(settings.getFailureRateThreshold())
+                    .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                    .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+                    .slidingWindowSize(settings.getSlidingWindowSize())
+                    .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                    .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+                    .permittedNumberOfCallsInHalfOpenState(settings.getPermittedNumberOfCallsInHalfOpenState())
+                    .automaticTransitionFromOpenToHalfOpenEnabled(false) // next call after wait duration will move to half open
+                    .build();
+        });
+    }
+
+    private Bulkhead getBulkhead(String endpoint) {
+        return bulkheadRegistry.bulkhead(endpoint, () -> {
+            ResilienceConfig.Settings settings = resilienceConfig.getEndpointSettings(endpoint);
+            return BulkheadConfig.custom()
+                    .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                    .maxWaitDuration(settings.getMaxWaitDuration())
+                    .build();
+        });
+    }
+
+    public CircuitBreakerRegistry getCircuitBreakerRegistry() {
+        return circuitBreakerRegistry;
+    }
+
+    public BulkheadRegistry getBulkheadRegistry() {
+        return bulkheadRegistry;
+    }
+}
@@ -0,0 +1,145 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.client.BufferedClientHttpResponse;
+import pers.yewin.restapisamplecallerservice.client.EndpointResolver;
+import pers.yewin.restapisamplecallerservice.client.RequestKey;
+import pers.yewin.restapisamplecallerservice.config.AppConfig;
+import pers.yewin.restapisamplecallerservice.config.ResponseCacheConfig;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+@Order(InterceptorOrder.RESPONSE_CACHE)
+public class ResponseCacheInterceptor implements ClientHttpRequestInterceptor, BodyBufferingInterceptor {
+
+    /**
+     * This interceptor will cache the success response of GET api callings because GET apis are idempotent.
+     * Only endpoints which have time to live in AppConfig (callerapp.api.receiverservice.endpoint.cache-ttl.*) will be cached.
+     * Cache key is resolved url (with query params) and key headers (eg. Authorization), so, different users don't share the entry.
+     * Cache is bounded by total body size, and caffeine will evict entries which are less and least recently used.
+     */
+
+    private final EndpointResolver endpointResolver;
+    private final AppConfig appConfig;
+    private final ResponseCacheConfig responseCacheConfig;
+    private final Cache<String, CachedResponse> cache;
+
+    public ResponseCacheInterceptor(EndpointResolver endpointResolver, AppConfig appConfig, ResponseCacheConfig responseCacheConfig,
+                                    MeterRegistry meterRegistry) {
+        this.endpointResolver = endpointResolver;
+        this.appConfig = appConfig;
+        this.responseCacheConfig = responseCacheConfig;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(responseCacheConfig.getMaximumWeight().toBytes())
+                .weigher((String key, CachedResponse value) -> key.length() + value.getResponse().getBodyBytes().length)
+                .expireAfter(new CachedResponseExpiry()) // every entry has own time to live from its endpoint
+                .recordStats()
+                .build();
+        // cache counters will be also in /actuator/metrics/cache.gets, cache.evictions, etc.
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "receiverResponseCache");
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+
+        Duration timeToLive = findTimeToLive(request);
+        if (timeToLive == null) {
+            return execution.execute(request, body); // not cacheable, go directly
+        }
+
+        String cacheKey = RequestKey.of(request, responseCacheConfig.getKeyHeaders());
+        CachedResponse cachedResponse = cache.getIfPresent(cacheKey);
+        if (cachedResponse != null) {
+            log.debug("Response cache hit, url: {}", request.getURI());
+            return cachedResponse.getResponse().copy();
+        }
+
+        BufferedClientHttpResponse response = BufferedClientHttpResponse.of(execution.execute(request, body));
+        if (response.getRawStatusCode() >= 200 && response.getRawStatusCode() < 300) {
+            // only success response is cached, error response should be tried again by next request.
+            cache.put(cacheKey, new CachedResponse(response, timeToLive));
+        }
+        return response.copy();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Cache<String, CachedResponse> getCache() {
+        return cache;
+    }
+
+    // return null if request can't be cached.
+    private Duration findTimeToLive(HttpRequest request) {
+        if (!responseCacheConfig.isEnabled() || request.getMethod() != HttpMethod.GET) {
+            return null;
+        }
+        Duration timeToLive = appConfig.getCacheTtl().get(endpointResolver.resolve(request.getURI()));
+        return (timeToLive == null || timeToLive.isZero() || timeToLive.isNegative()) ? null : timeToLive;
+    }
+
+
+    // cached response with its own time to live.
+    public static class CachedResponse {
+        private final BufferedClientHttpResponse response;
+        private final Duration timeToLive;
+
+        CachedResponse(BufferedClientHttpResponse response, Duration timeToLive) {
+            this.response = response;
+            this.timeToLive = timeToLive;
+        }
+
+        public BufferedClientHttpResponse getResponse() {
+            return response;
+        }
+    }
+
+    private static class CachedResponseExpiry implements Expiry<String, CachedResponse> {
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.timeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.timeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration; // reading will not extend time to live
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.client.EndpointResolver;
+import pers.yewin.restapisamplecallerservice.client.RetryBudget;
+import pers.yewin.restapisamplecallerservice.config.RetryConfig;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+@Order(InterceptorOrder.RETRY)
+public class RetryInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * This interceptor will retry idempotent api callings when there is io error or retryable status (eg. 503) from receiver.
+     * Backoff between retries is growing exponentially with full jitter (random between 0 and backoff),
+     * so, many callers will not retry at the same time.
+     * Every retry needs token from retry budget which is shared for whole application,
+     * so, when receiver is partially down, retries will be stopped instead of making retry storm.
+     */
+
+    private final RetryConfig retryConfig;
+    private final EndpointResolver endpointResolver;
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget retryBudget;
+
+    public RetryInterceptor(RetryConfig retryConfig, EndpointResolver endpointResolver, MeterRegistry meterRegistry) {
+        this.retryConfig = retryConfig;
+        this.endpointResolver = endpointResolver;
+        this.meterRegistry = meterRegistry;
+        this.retryBudget = new RetryBudget(retryConfig.getBudgetRatio(), retryConfig.getBudgetMaxTokens());
+        meterRegistry.gauge("caller.outbound.retry.budget.tokens", retryBudget, RetryBudget::getTokens);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+
+        if (!retryConfig.isEnabled() || !retryConfig.getMethods().contains(request.getMethodValue())) {
+            return execution.execute(request, body);
+        }
+
+        String endpoint = endpointResolver.resolve(request.getURI());
+        retryBudget.deposit();
+
+        for (int attempt = 1; ; attempt++) {
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException e) {
+                if (!canRetry(endpoint, attempt)) {
+                    throw e;
+                }
+                log.warn("Retry {} for endpoint: {}, error: {}", attempt, endpoint, e.getMessage());
+                backoff(attempt);
+                continue;
+            }
+
+            if (!retryConfig.getRetryableStatuses().contains(response.getRawStatusCode()) || !canRetry(endpoint, attempt)) {
+                return response;
+            }
+            log.warn("Retry {} for endpoint: {}, status: {}", attempt, endpoint, response.getRawStatusCode());
+            response.close(); // release connection before next attempt
+            backoff(attempt);
+        }
+    }
+
+    private boolean canRetry(String endpoint, int attempt) {
+        if (attempt >= retryConfig.getMaxAttempts()) {
+            return false;
+        }
+        if (!retryBudget.tryWithdraw()) {
+            meterRegistry.counter("caller.outbound.retry.budget.exhausted", "endpoint", endpoint).increment();
+            return false;
+        }
+        meterRegistry.counter("caller.outbound.retry.attempts", "endpoint", endpoint).increment();
+        return true;
+    }
+
+    // full jitter, sleep random time between 0 and exponential backoff.
+    private void backoff(int attempt) throws IOException {
+        double backoff = retryConfig.getInitialBackoff().toMillis() * Math.pow(retryConfig.getMultiplier(), attempt - 1);
+        long maxSleep = (long) Math.min(backoff, retryConfig.getMaxBackoff().toMillis());
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxSleep + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+}
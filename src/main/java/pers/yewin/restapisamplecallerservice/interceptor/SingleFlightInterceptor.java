@@ -0,0 +1,102 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.client.BufferedClientHttpResponse;
+import pers.yewin.restapisamplecallerservice.client.EndpointResolver;
+import pers.yewin.restapisamplecallerservice.client.RequestKey;
+import pers.yewin.restapisamplecallerservice.config.SingleFlightConfig;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+@Order(InterceptorOrder.SINGLE_FLIGHT)
+public class SingleFlightInterceptor implements ClientHttpRequestInterceptor, BodyBufferingInterceptor {
+
+    /**
+     * This interceptor will share one in-flight api calling with all concurrent callers which have same request key.
+     * First caller (leader) will call the receiver api, and other callers (followers) will wait and get copy of leader response.
+     * So, when there is burst of same requests, receiver service will get only one request instead of many requests.
+     * It runs after response cache, so, only cache misses will come here.
+     */
+
+    private final SingleFlightConfig singleFlightConfig;
+    private final EndpointResolver endpointResolver;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<BufferedClientHttpResponse>> inFlightCalls = new ConcurrentHashMap<>();
+
+    public SingleFlightInterceptor(SingleFlightConfig singleFlightConfig, EndpointResolver endpointResolver, MeterRegistry meterRegistry) {
+        this.singleFlightConfig = singleFlightConfig;
+        this.endpointResolver = endpointResolver;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+
+        if (!singleFlightConfig.isEnabled() || !singleFlightConfig.getMethods().contains(request.getMethodValue())) {
+            return execution.execute(request, body);
+        }
+
+        String requestKey = RequestKey.of(request, singleFlightConfig.getKeyHeaders());
+        CompletableFuture<BufferedClientHttpResponse> myCall = new CompletableFuture<>();
+        CompletableFuture<BufferedClientHttpResponse> inFlightCall = inFlightCalls.putIfAbsent(requestKey, myCall);
+
+        if (inFlightCall != null) {
+            // same request is already calling by other thread, so, wait for that response.
+            meterRegistry.counter("caller.outbound.singleflight.shared", "endpoint", endpointResolver.resolve(request.getURI())).increment();
+            return awaitLeader(inFlightCall).copy();
+        }
+
+        try {
+            BufferedClientHttpResponse response = BufferedClientHttpResponse.of(execution.execute(request, body));
+            myCall.complete(response);
+            return response.copy();
+        } catch (IOException | RuntimeException | Error e) {
+            myCall.completeExceptionally(e); // followers will get same error, even for Error, otherwise they will wait forever
+            throw e;
+        } finally {
+            inFlightCalls.remove(requestKey, myCall); // next request will call the receiver again
+        }
+    }
+
+    private BufferedClientHttpResponse awaitLeader(CompletableFuture<BufferedClientHttpResponse> inFlightCall) throws IOException {
+        try {
+            // no own timer here, leader always completes its call (success, exception or Error), and every attempt of the leader
+            // (retries and backoffs are inside it) is bounded by timeouts of the client engine, so, followers wait same time with the leader.
+            return inFlightCall.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for in-flight call");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.client.SmileNegotiator;
+
+import java.io.IOException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+@Component // create bean class
+@Order(InterceptorOrder.SMILE_NEGOTIATION)
+public class SmileNegotiationInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * This interceptor will remember which receivers answer with smile (Content-Type: application/x-jackson-smile),
+     * so, EndpointCallExecutor can send request body as smile to them.
+     * If receiver answers '415 Unsupported Media Type' for smile request body, body is changed into json and sent again,
+     * so, caller still gets the response of json request (json fallback).
+     * @see SmileNegotiator
+     */
+
+    private final SmileNegotiator smileNegotiator;
+
+    public SmileNegotiationInterceptor(SmileNegotiator smileNegotiator) {
+        this.smileNegotiator = smileNegotiator;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+
+        if (!smileNegotiator.isEnabled()) {
+            return execution.execute(request, body);
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+
+        MediaType requestContentType = request.getHeaders().getContentType();
+        if (response.getRawStatusCode() == HttpStatus.UNSUPPORTED_MEDIA_TYPE.value() && requestContentType != null
+                && SmileNegotiator.APPLICATION_SMILE.isCompatibleWith(requestContentType)) {
+            response.close();
+            smileNegotiator.onSmileBodyRejected(request.getURI());
+
+            byte[] json = smileNegotiator.toJson(body);
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.getHeaders().setContentLength(json.length);
+            return execution.execute(request, json);
+        }
+
+        smileNegotiator.onResponse(request.getURI(), response.getHeaders().getContentType());
+        return response;
+    }
+}
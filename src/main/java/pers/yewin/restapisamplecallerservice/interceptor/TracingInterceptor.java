@@ -0,0 +1,57 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.client.ObservedClientHttpResponse;
+import pers.yewin.restapisamplecallerservice.tracing.OutboundTracer;
+import pers.yewin.restapisamplecallerservice.tracing.Span;
+
+import java.io.IOException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.interceptor
+ */
+
+@Component // create bean class
+@Order(InterceptorOrder.TRACING)
+public class TracingInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * This interceptor will create CLIENT span for every RestTemplate api calling and send 'traceparent' header to receiver,
+     * so, receiver can continue same trace and its logs can be joined with our logs by trace id.
+     * It is the first interceptor, so, span covers all other interceptors (cache, circuit breaker, retries, etc).
+     * @see OutboundTracer
+     */
+
+    private final OutboundTracer outboundTracer;
+
+    public TracingInterceptor(OutboundTracer outboundTracer) {
+        this.outboundTracer = outboundTracer;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+
+        Span span = outboundTracer.start(request.getMethodValue(), request.getURI(), request.getHeaders());
+        if (span == null) {
+            return execution.execute(request, body);
+        }
+
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            outboundTracer.failed(span, e);
+            throw e;
+        }
+        long headersReceivedAt = outboundTracer.headersReceived(span, response.getRawStatusCode());
+        return new ObservedClientHttpResponse(response, responseBytes -> outboundTracer.finish(span, headersReceivedAt));
+    }
+}
@@ -0,0 +1,262 @@
+package pers.yewin.restapisamplecallerservice.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.codec.JsonCodec;
+import pers.yewin.restapisamplecallerservice.config.PayloadLoggingConfig;
+import pers.yewin.restapisamplecallerservice.tracing.TraceContext;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.logging
+ */
+
+@Slf4j(topic = "pers.yewin.restapisamplecallerservice.payload") // own logger name, so, payload logs can be turned off by logging.level
+@Component // create bean class
+public class PayloadLogger {
+
+    /**
+     * Request data, headers and response data of api callings are logged from here.
+     * Logging full response data like ResponseObjectList with many students by toString() costs more cpu and memory than api calling itself under load.
+     * So, this class will
+     *  - do nothing if info level of payload logger is not enabled or request is not in sample rate,
+     *  - write data as json and stop writing when max length is reached, so, big list is never converted to string fully,
+     *  - replace values of secret headers like Authorization with ******.
+     * Sampling is decided by trace id if there is, so, all payload logs of one request are logged together or not at all.
+     */
+
+    private static final String REDACTED = "******";
+    private static final String TRUNCATED = "...(truncated)";
+
+    private final JsonCodec jsonCodec;
+    private final double sampleRate;
+    private final int maxLength;
+    private final Set<String> redactedHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    public PayloadLogger(JsonCodec jsonCodec, PayloadLoggingConfig payloadLoggingConfig) {
+        this.jsonCodec = jsonCodec;
+        this.sampleRate = payloadLoggingConfig.getSampleRate();
+        this.maxLength = payloadLoggingConfig.getMaxLength();
+        this.redactedHeaders.addAll(payloadLoggingConfig.getRedactedHeaders());
+    }
+
+    public void request(String url, Object requestData) {
+        if (isEnabled()) {
+            log.info("API Calling info, url: {}, request data: {}", url, render(requestData));
+        }
+    }
+
+    public void request(String url, Object requestData, HttpHeaders headers) {
+        if (isEnabled()) {
+            log.info("API Calling info, url: {}, request data: {}, headers: {}", url, render(requestData), redact(headers));
+        }
+    }
+
+    public void response(ResponseEntity<?> response) {
+        if (isEnabled()) {
+            log.info("thirdparty response status code: {}, data: {}", response.getStatusCodeValue(), render(response.getBody()));
+        }
+    }
+
+    // final response data of this application, eg. CallerServiceResponse which is returned from controller
+    public void result(Object data) {
+        if (isEnabled()) {
+            log.info("Response data: {}", render(data));
+        }
+    }
+
+    public boolean isEnabled() {
+        return log.isInfoEnabled() && isSampled();
+    }
+
+    private boolean isSampled() {
+        if (sampleRate >= 1.0) {
+            return true;
+        }
+        if (sampleRate <= 0.0) {
+            return false;
+        }
+        TraceContext context = TraceContext.current();
+        if (context == null) {
+            return ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
+        // trace id is already random, so, use last 16 hex of it as random number which is same in every log of that trace.
+        String traceId = context.getTraceId();
+        long random = Long.parseUnsignedLong(traceId.substring(traceId.length() - 16), 16);
+        return (random >>> 11) * 0x1.0p-53 < sampleRate;
+    }
+
+    String render(Object data) {
+        BoundedWriter writer = new BoundedWriter(maxLength);
+        append(data, writer);
+        return writer.toString();
+    }
+
+    String redact(HttpHeaders headers) {
+        if (headers == null) {
+            return "{}";
+        }
+        StringBuilder result = new StringBuilder(128).append('{');
+        Iterator<Map.Entry<String, List<String>>> iterator = headers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, List<String>> header = iterator.next();
+            result.append(header.getKey()).append('=');
+            if (redactedHeaders.contains(header.getKey())) {
+                result.append('[').append(REDACTED).append(']');
+            } else {
+                result.append(header.getValue());
+            }
+            if (iterator.hasNext()) {
+                result.append(", ");
+            }
+        }
+        return result.append('}').toString();
+    }
+
+    private void append(Object data, BoundedWriter writer) {
+        if (writer.isFull()) {
+            return;
+        }
+        if (data == null || data instanceof CharSequence || data instanceof Number || data instanceof Boolean || data instanceof Enum) {
+            writer.append(String.valueOf(data));
+        } else if (data instanceof byte[]) {
+            writer.append("byte[").append(String.valueOf(((byte[]) data).length)).append("]");
+        } else if (data instanceof Resource) {
+            // don't let jackson read the file, only name of the file is logged
+            writer.append(((Resource) data).getDescription());
+        } else if (data instanceof Map) {
+            // multipart request body (file upload) is MultiValueMap of resources
+            writer.append("{");
+            Iterator<? extends Map.Entry<?, ?>> iterator = ((Map<?, ?>) data).entrySet().iterator();
+            while (iterator.hasNext() && !writer.isFull()) {
+                Map.Entry<?, ?> entry = iterator.next();
+                writer.append(String.valueOf(entry.getKey())).append("=");
+                append(entry.getValue(), writer);
+                writer.append(iterator.hasNext() ? ", " : "");
+            }
+            writer.append("}");
+        } else if (data instanceof Collection && containsResource((Collection<?>) data)) {
+            writer.append("[");
+            Iterator<?> iterator = ((Collection<?>) data).iterator();
+            while (iterator.hasNext() && !writer.isFull()) {
+                append(iterator.next(), writer);
+                writer.append(iterator.hasNext() ? ", " : "");
+            }
+            writer.append("]");
+        } else {
+            try {
+                jsonCodec.writer(data.getClass()).writeValue(writer, data);
+            } catch (Exception e) {
+                // writer stops jackson by exception when it is full, other errors mean data can't be written as json.
+                if (!writer.isFull()) {
+                    writer.append("<").append(data.getClass().getSimpleName()).append(">");
+                }
+            }
+        }
+    }
+
+    private boolean containsResource(Collection<?> data) {
+        for (Object element : data) {
+            if (element instanceof Resource) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writer which keeps only max length characters.
+     * When it is full, every write will throw exception to stop the json writing, so, the rest of big object is not written at all.
+     * Jackson writes to this writer by its own buffer, so, at most one buffer (some KB) of extra json is created.
+     */
+    private static final class BoundedWriter extends Writer {
+
+        private final StringBuilder buffer;
+        private final int maxLength;
+        private boolean full;
+
+        private BoundedWriter(int maxLength) {
+            this.buffer = new StringBuilder(Math.min(maxLength, 256) + TRUNCATED.length());
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public BoundedWriter append(CharSequence value) {
+            if (!full) {
+                write(value, 0, value.length());
+            }
+            return this;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            checkFull();
+            int remaining = maxLength - buffer.length();
+            buffer.append(chars, offset, Math.min(length, remaining));
+            if (length > remaining) {
+                markFull();
+                checkFull();
+            }
+        }
+
+        @Override
+        public void write(String value, int offset, int length) throws IOException {
+            checkFull();
+            write((CharSequence) value, offset, length);
+            checkFull();
+        }
+
+        private void write(CharSequence value, int offset, int length) {
+            int remaining = maxLength - buffer.length();
+            buffer.append(value, offset, offset + Math.min(length, remaining));
+            if (length > remaining) {
+                markFull();
+            }
+        }
+
+        private void markFull() {
+            full = true;
+            buffer.append(TRUNCATED);
+        }
+
+        private void checkFull() throws IOException {
+            if (full) {
+                throw new IOException("Payload log max length is reached");
+            }
+        }
+
+        private boolean isFull() {
+            return full;
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush, everything is in memory
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package pers.yewin.restapisamplecallerservice.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.model.response
+ */
+
+// this class will be result of one call in aggregate api
+@Data // create getter, setter and toString method by using lombok
+@NoArgsConstructor // create default no argument constructor by using lombok
+@AllArgsConstructor // create all argument constructor by using lombok
+public class AggregateCallResult {
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String FAILED = "FAILED";
+    public static final String TIMED_OUT = "TIMED_OUT";
+    public static final String REJECTED = "REJECTED";
+
+    private String callName;
+    private String status; // one of above status
+    private long durationMillis;
+    private CallerServiceResponse response;
+    private String error;
+}
@@ -0,0 +1,23 @@
+package pers.yewin.restapisamplecallerservice.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.model.response
+ */
+
+// this class will be composite response of aggregate api
+@Data // create getter, setter and toString method by using lombok
+@NoArgsConstructor // create default no argument constructor by using lombok
+@AllArgsConstructor // create all argument constructor by using lombok
+public class AggregateResponse {
+    private long totalDurationMillis;
+    private List<AggregateCallResult> results;
+}
@@ -0,0 +1,26 @@
+package pers.yewin.restapisamplecallerservice.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.model.response
+ */
+
+// progress of one file in bulk upload
+@Data // create getter, setter and toString method by using lombok
+@NoArgsConstructor // create default no argument constructor by using lombok
+@AllArgsConstructor // create all argument constructor by using lombok
+public class BulkUploadFileStatus {
+
+    private String fileName;
+    private String status; // one of BulkUploadStatus status
+    private long size;
+    private int totalChunks;
+    private int uploadedChunks;
+    private int failedChunks;
+}
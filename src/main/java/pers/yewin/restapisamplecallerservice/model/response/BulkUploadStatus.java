@@ -0,0 +1,34 @@
+package pers.yewin.restapisamplecallerservice.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.model.response
+ */
+
+// progress of bulk upload, it's returned when upload is started and when progress is checked
+@Data // create getter, setter and toString method by using lombok
+@NoArgsConstructor // create default no argument constructor by using lombok
+@AllArgsConstructor // create all argument constructor by using lombok
+public class BulkUploadStatus {
+
+    public static final String UPLOADING = "UPLOADING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED"; // some chunks are failed, and upload can be resumed
+
+    private String uploadId;
+    private String status; // one of above status
+    private long totalBytes;
+    private long uploadedBytes;
+    private int totalChunks;
+    private int uploadedChunks;
+    private int failedChunks;
+    private List<BulkUploadFileStatus> files;
+}
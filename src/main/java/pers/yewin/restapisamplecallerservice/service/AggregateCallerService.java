@@ -0,0 +1,18 @@
+package pers.yewin.restapisamplecallerservice.service;
+
+import pers.yewin.restapisamplecallerservice.model.response.AggregateResponse;
+
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service
+ */
+
+public interface AggregateCallerService {
+
+    // call given CallerService methods (by method name) in parallel and return all results in one response.
+    AggregateResponse callAggregate(List<String> callNames);
+}
@@ -0,0 +1,24 @@
+package pers.yewin.restapisamplecallerservice.service;
+
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service
+ */
+
+public interface AsyncCallerService {
+
+    // start given CallerService method (by method name) on async executor and return without waiting.
+    // throw IllegalArgumentException for unknown call name and RejectedExecutionException when executor is full.
+    // cancel the future to drop the call if it is still waiting in queue.
+    CompletableFuture<CallerServiceResponse> call(String callName);
+
+    // how long the client will wait for given call
+    Duration getTimeout(String callName);
+}
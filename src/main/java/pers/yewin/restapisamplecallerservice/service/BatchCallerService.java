@@ -0,0 +1,28 @@
+package pers.yewin.restapisamplecallerservice.service;
+
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service
+ */
+
+public interface BatchCallerService {
+
+    // buffer one student, it's sent with other students as one StudentListObject (requestBodyObjectListDemo api).
+    // throw RejectedExecutionException when there are too many pending students.
+    CompletableFuture<CallerServiceResponse> submitStudent(Student student);
+
+    // buffer one string, it's sent with other strings as one StringListObject (requestBodyStringListDemo api).
+    // throw RejectedExecutionException when there are too many pending strings.
+    CompletableFuture<CallerServiceResponse> submitString(String value);
+
+    // how long the client will wait for result of one item
+    Duration getTimeout();
+}
@@ -0,0 +1,28 @@
+package pers.yewin.restapisamplecallerservice.service;
+
+import pers.yewin.restapisamplecallerservice.model.response.BulkUploadStatus;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service
+ */
+
+public interface BulkUploadService {
+
+    /**
+     * Upload given files in background, every file (or every chunk of large file) is one api calling.
+     * Return status with uploadId immediately, and progress can be checked by getStatus method.
+     */
+    BulkUploadStatus startUpload(List<String> fileNames) throws IOException;
+
+    // progress of upload, null if uploadId is unknown or expired.
+    BulkUploadStatus getStatus(String uploadId);
+
+    // upload only failed chunks again, null if uploadId is unknown or expired.
+    BulkUploadStatus resumeUpload(String uploadId);
+}
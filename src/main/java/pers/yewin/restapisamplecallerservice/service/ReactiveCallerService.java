@@ -0,0 +1,60 @@
+package pers.yewin.restapisamplecallerservice.service;
+
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service
+ */
+
+public interface ReactiveCallerService {
+
+    /**
+     * Same api callings with CallerService, but by using non-blocking WebClient.
+     * Every method will return Mono and api calling will start only when that Mono is subscribed.
+     * @see CallerService
+     */
+
+    /** to call response demo apis **/
+    Mono<CallerServiceResponse> callResponseSingleStringDemo();
+    Mono<CallerServiceResponse> callResponseSingleObjectDemo();
+    Mono<CallerServiceResponse> callResponseObjectDemo();
+    Mono<CallerServiceResponse> callResponseStringListDemo();
+    Mono<CallerServiceResponse> callResponseObjectListDemo();
+    Mono<CallerServiceResponse> callResponseCustomObjectListDemo();
+    Mono<CallerServiceResponse> callResponseNestedObjectDemo();
+    Mono<CallerServiceResponse> callResponseNestedObjectAndNestedObjectListDemo();
+
+
+    /** to call request demo apis **/
+    Mono<CallerServiceResponse> callRequestBodyObjectDemo();
+    Mono<CallerServiceResponse> callRequestBodyObjectListDemo();
+    Mono<CallerServiceResponse> callRequestBodyStringListDemo();
+    Mono<CallerServiceResponse> callRequestPathVariableIntegerDemo();
+    Mono<CallerServiceResponse> callRequestMultiPathVariablesDemo();
+    Mono<CallerServiceResponse> callRequestParamStringDemo();
+    Mono<CallerServiceResponse> callRequestMultiParamsDemo();
+    Mono<CallerServiceResponse> callRequestPathVariableAndParamsDemo();
+    Mono<CallerServiceResponse> callRequestFromHeaderDemo();
+    Mono<CallerServiceResponse> callRequestFromHeaderAndRequestParamDemo();
+    Mono<CallerServiceResponse> callRequestFromHeaderAndRequestBodyDemo();
+    Mono<CallerServiceResponse> callRequestFileUploadDemo();
+    Mono<CallerServiceResponse> callRequestFromHeaderAndBulkFileUploadDemo();
+
+
+    /** to call request and response demo apis **/
+    Mono<CallerServiceResponse> callRequestPathVariableAndResponseObjectDemo();
+    Mono<CallerServiceResponse> callRequestParamStringAndResponseObjectListDemo();
+    Mono<CallerServiceResponse> callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemo();
+    Mono<CallerServiceResponse> callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo();
+    Mono<CallerServiceResponse> callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo();
+
+
+    /** to call error demo apis **/
+    Mono<CallerServiceResponse> callErrorBadRequestResponseDemo();
+    Mono<CallerServiceResponse> callErrorNotFoundResponseDemo();
+    Mono<CallerServiceResponse> callErrorInternalServerErrorResponseDemo();
+}
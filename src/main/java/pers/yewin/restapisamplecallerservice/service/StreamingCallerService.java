@@ -0,0 +1,27 @@
+package pers.yewin.restapisamplecallerservice.service;
+
+import pers.yewin.restapisamplecallerservice.codec.ElementConsumer;
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+
+import java.io.IOException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service
+ */
+
+public interface StreamingCallerService {
+
+    /**
+     * Same list api callings with CallerService, but response is not read into array or list.
+     * Every student is parsed from response stream one by one and given to consumer, and method returns number of students.
+     * So, memory will be flat even though receiver returns very large list.
+     * @see CallerService
+     */
+
+    long streamResponseObjectListDemo(ElementConsumer<Student> consumer) throws IOException;
+    long streamRequestParamStringAndResponseObjectListDemo(ElementConsumer<Student> consumer) throws IOException;
+    long streamResponseNestedObjectAndNestedObjectListDemo(ElementConsumer<Student> consumer) throws IOException; // students from dataList
+}
@@ -0,0 +1,131 @@
+package pers.yewin.restapisamplecallerservice.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import pers.yewin.restapisamplecallerservice.config.AggregateConfig;
+import pers.yewin.restapisamplecallerservice.model.response.AggregateCallResult;
+import pers.yewin.restapisamplecallerservice.model.response.AggregateResponse;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.AggregateCallerService;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service.impl
+ */
+
+@Slf4j // for logging by using lombok
+@Service // create bean class
+public class AggregateCallerServiceImpl implements AggregateCallerService {
+
+    /**
+     * This class will call many CallerService methods at the same time on bounded aggregate executor.
+     * So, total time will be the slowest call time instead of the sum of all call times.
+     * Calls which are not finished before the global deadline will be cancelled and marked as TIMED_OUT.
+     * Cancel goes to the executor task (not only to CompletableFuture), so, call which is still in queue will not run.
+     * Running call is interrupted, but interrupt only stops waiting which can be interrupted (free connection or stream, retry backoff,
+     * single-flight leader), blocking socket read of Apache HttpClient or HttpURLConnection can't be interrupted,
+     * so, that executor thread is kept until the response is arrived or read timeout (callerapp.config.httpclient.read-timeout) is over.
+     */
+
+    // default calls when caller don't choose, these are all response demo apis.
+    public static final List<String> DEFAULT_CALLS = Collections.unmodifiableList(Arrays.asList(
+            "callResponseSingleStringDemo", "callResponseSingleObjectDemo", "callResponseObjectDemo", "callResponseStringListDemo",
+            "callResponseObjectListDemo", "callResponseCustomObjectListDemo", "callResponseNestedObjectDemo", "callResponseNestedObjectAndNestedObjectListDemo"));
+
+    private final CallerServiceCalls calls;
+    private final AsyncTaskExecutor aggregateExecutor;
+    private final AggregateConfig aggregateConfig;
+
+    public AggregateCallerServiceImpl(CallerServiceCalls calls, @Qualifier("aggregateExecutor") AsyncTaskExecutor aggregateExecutor, AggregateConfig aggregateConfig) {
+        this.calls = calls;
+        this.aggregateExecutor = aggregateExecutor;
+        this.aggregateConfig = aggregateConfig;
+    }
+
+    @Override
+    public AggregateResponse callAggregate(List<String> callNames) {
+
+        List<String> chosenCalls = (callNames == null || callNames.isEmpty()) ? DEFAULT_CALLS : callNames;
+        for (String callName : chosenCalls) {
+            if (!calls.contains(callName)) {
+                throw new IllegalArgumentException("Unknown call name: " + callName);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        long deadline = startTime + aggregateConfig.getDeadline().toNanos();
+
+        // start all calls first, and every call will return its own result (success or failed) and will not throw.
+        Map<String, CompletableFuture<AggregateCallResult>> futures = new LinkedHashMap<>();
+        Map<String, Future<?>> tasks = new HashMap<>();
+        for (String callName : chosenCalls) {
+            futures.put(callName, startCall(callName, tasks));
+        }
+
+        // wait all calls until global deadline.
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Aggregate deadline {} is over, unfinished calls will be cancelled", aggregateConfig.getDeadline());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // every call future catch its own error, so, this will not happen.
+            log.error("error: {}", e.getMessage());
+        }
+
+        List<AggregateCallResult> results = new ArrayList<>();
+        futures.forEach((callName, future) -> {
+            AggregateCallResult result = future.getNow(null);
+            if (result == null) {
+                // CompletableFuture.cancel() doesn't stop the task, so, I cancel the executor task also (queued task will not run).
+                future.cancel(true);
+                tasks.get(callName).cancel(true);
+                result = new AggregateCallResult(callName, AggregateCallResult.TIMED_OUT, aggregateConfig.getDeadline().toMillis(), null, "Call was not finished before deadline");
+            }
+            results.add(result);
+        });
+
+        long totalDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        log.info("Aggregate calls: {}, total duration: {} ms", chosenCalls, totalDuration);
+        return new AggregateResponse(totalDuration, results);
+    }
+
+    // executor task of the call is put into tasks, so, it can be cancelled after deadline.
+    private CompletableFuture<AggregateCallResult> startCall(String callName, Map<String, Future<?>> tasks) {
+        Supplier<CallerServiceResponse> call = calls.get(callName);
+        CompletableFuture<AggregateCallResult> result = new CompletableFuture<>();
+        try {
+            tasks.put(callName, aggregateExecutor.submit(() -> {
+                long callStartTime = System.nanoTime();
+                try {
+                    CallerServiceResponse callerResponse = call.get();
+                    // CallerService will return 500 status code response when api calling was error.
+                    String status = callerResponse.getThirdPartyResponseStatusCode() < 400 ? AggregateCallResult.SUCCESS : AggregateCallResult.FAILED;
+                    result.complete(new AggregateCallResult(callName, status, elapsedMillis(callStartTime), callerResponse, null));
+                } catch (Exception e) {
+                    log.error("error: {}", e.getMessage());
+                    result.complete(new AggregateCallResult(callName, AggregateCallResult.FAILED, elapsedMillis(callStartTime), null, e.getMessage()));
+                }
+            }));
+            return result;
+        } catch (RejectedExecutionException e) {
+            // executor queue is full, we don't wait and return rejected result directly.
+            log.warn("Call {} is rejected by aggregate executor", callName);
+            return CompletableFuture.completedFuture(new AggregateCallResult(callName, AggregateCallResult.REJECTED, 0, null, e.getMessage()));
+        }
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
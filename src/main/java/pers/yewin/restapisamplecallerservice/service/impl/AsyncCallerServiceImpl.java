@@ -0,0 +1,71 @@
+package pers.yewin.restapisamplecallerservice.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import pers.yewin.restapisamplecallerservice.config.AsyncConfig;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.AsyncCallerService;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service.impl
+ */
+
+@Slf4j // for logging by using lombok
+@Service // create bean class
+public class AsyncCallerServiceImpl implements AsyncCallerService {
+
+    /**
+     * This class runs CallerService methods on bounded async executor instead of tomcat thread.
+     * So, tomcat thread is free while we are waiting for slow receiver and it can serve other (fast) apis.
+     * When executor queue is full, call is rejected directly, it's better than making tomcat threads and clients wait for long time.
+     */
+
+    private final CallerServiceCalls calls;
+    private final AsyncTaskExecutor asyncCallerExecutor;
+    private final AsyncConfig asyncConfig;
+
+    public AsyncCallerServiceImpl(CallerServiceCalls calls, @Qualifier("asyncCallerExecutor") AsyncTaskExecutor asyncCallerExecutor, AsyncConfig asyncConfig) {
+        this.calls = calls;
+        this.asyncCallerExecutor = asyncCallerExecutor;
+        this.asyncConfig = asyncConfig;
+    }
+
+    @Override
+    public CompletableFuture<CallerServiceResponse> call(String callName) {
+        Supplier<CallerServiceResponse> call = calls.get(callName);
+
+        CompletableFuture<CallerServiceResponse> result = new CompletableFuture<>();
+        Future<?> task = asyncCallerExecutor.submit(() -> {
+            try {
+                result.complete(call.get());
+            } catch (Exception e) {
+                log.error("error: {}", e.getMessage());
+                result.completeExceptionally(e);
+            }
+        });
+
+        // CompletableFuture.cancel() doesn't stop the task, so, I cancel the task also.
+        // task which is still in queue will not run, running task will be interrupted (blocking socket read will end by read timeout only).
+        result.whenComplete((callerResponse, e) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public Duration getTimeout(String callName) {
+        return asyncConfig.getTimeouts().getOrDefault(callName, asyncConfig.getDefaultTimeout());
+    }
+}
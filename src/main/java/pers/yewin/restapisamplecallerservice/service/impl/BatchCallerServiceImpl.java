@@ -0,0 +1,98 @@
+package pers.yewin.restapisamplecallerservice.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import pers.yewin.restapisamplecallerservice.client.MicroBatcher;
+import pers.yewin.restapisamplecallerservice.config.BatchConfig;
+import pers.yewin.restapisamplecallerservice.model.request.StringListObject;
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+import pers.yewin.restapisamplecallerservice.model.request.StudentListObject;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.BatchCallerService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service.impl
+ */
+
+@Slf4j // for logging by using lombok
+@Service // create bean class
+public class BatchCallerServiceImpl implements BatchCallerService, DisposableBean {
+
+    /**
+     * Receiver apis requestBodyObjectListDemo and requestBodyStringListDemo accept list of items in one request.
+     * So, instead of one api calling for every student (or string) which comes to us, students are buffered by MicroBatcher
+     * and many students are sent as one StudentListObject, it saves a lot of receiver round trips when many students come at the same time.
+     * Receiver gives one response for whole list, so, every caller gets that response with its own position in the batch.
+     * @see MicroBatcher
+     */
+
+    private final EndpointCallExecutor endpointCallExecutor;
+    private final BatchConfig batchConfig;
+    private final MicroBatcher<Student, CallerServiceResponse> studentBatcher;
+    private final MicroBatcher<String, CallerServiceResponse> stringBatcher;
+
+    public BatchCallerServiceImpl(EndpointCallExecutor endpointCallExecutor, BatchConfig batchConfig,
+                                  @Qualifier("batchSenderExecutor") ThreadPoolTaskExecutor batchSenderExecutor,
+                                  @Qualifier("batchFlushScheduler") ThreadPoolTaskScheduler batchFlushScheduler) {
+        this.endpointCallExecutor = endpointCallExecutor;
+        this.batchConfig = batchConfig;
+        this.studentBatcher = new MicroBatcher<>("requestBodyObjectListDemo", batchConfig.getMaxBatchSize(), batchConfig.getMaxDelay(),
+                batchConfig.getMaxPendingItems(), this::sendStudents, batchSenderExecutor, batchFlushScheduler.getScheduledExecutor());
+        this.stringBatcher = new MicroBatcher<>("requestBodyStringListDemo", batchConfig.getMaxBatchSize(), batchConfig.getMaxDelay(),
+                batchConfig.getMaxPendingItems(), this::sendStrings, batchSenderExecutor, batchFlushScheduler.getScheduledExecutor());
+    }
+
+    @Override
+    public CompletableFuture<CallerServiceResponse> submitStudent(Student student) {
+        return studentBatcher.submit(student);
+    }
+
+    @Override
+    public CompletableFuture<CallerServiceResponse> submitString(String value) {
+        return stringBatcher.submit(value);
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return batchConfig.getTimeout();
+    }
+
+    private List<CallerServiceResponse> sendStudents(List<Student> students) {
+        // same api calling flow with callRequestBodyObjectListDemo, only the body is our batch instead of hard coded students.
+        return demultiplex(endpointCallExecutor.execute("requestBodyObjectListDemo", new StudentListObject(students)), students.size());
+    }
+
+    private List<CallerServiceResponse> sendStrings(List<String> values) {
+        return demultiplex(endpointCallExecutor.execute("requestBodyStringListDemo", new StringListObject(values)), values.size());
+    }
+
+    // one response of the batch -> one response for every item, with item position in description
+    private List<CallerServiceResponse> demultiplex(CallerServiceResponse batchResponse, int batchSize) {
+        List<CallerServiceResponse> results = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            results.add(new CallerServiceResponse<>(batchResponse.getMessage(),
+                    batchResponse.getDescription() + ", batch item " + (i + 1) + " of " + batchSize,
+                    batchResponse.getThirdPartyResponseStatusCode(), batchResponse.getThirdPartyResponseData()));
+        }
+        return results;
+    }
+
+    // send buffered items before the executors are shut down
+    @Override
+    public void destroy() {
+        studentBatcher.flush();
+        stringBatcher.flush();
+    }
+}
@@ -0,0 +1,284 @@
+package pers.yewin.restapisamplecallerservice.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import pers.yewin.restapisamplecallerservice.client.BasicAuthHeader;
+import pers.yewin.restapisamplecallerservice.client.Endpoint;
+import pers.yewin.restapisamplecallerservice.client.EndpointRegistry;
+import pers.yewin.restapisamplecallerservice.client.FileUploadSupport;
+import pers.yewin.restapisamplecallerservice.client.ResourceRange;
+import pers.yewin.restapisamplecallerservice.client.StreamingMultipartUploader;
+import pers.yewin.restapisamplecallerservice.config.BulkUploadConfig;
+import pers.yewin.restapisamplecallerservice.model.response.BulkUploadFileStatus;
+import pers.yewin.restapisamplecallerservice.model.response.BulkUploadStatus;
+import pers.yewin.restapisamplecallerservice.service.BulkUploadService;
+import pers.yewin.restapisamplecallerservice.tracing.TracingTaskDecorator;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service.impl
+ */
+
+@Service
+@Slf4j // for logging by using lombok
+public class BulkUploadServiceImpl implements BulkUploadService {
+
+    /**
+     * Bulk upload engine, every file is split into chunks by chunk size (small file is one chunk),
+     * and every chunk is uploaded as separate multipart api calling to file upload api on bounded executor.
+     * So, one slow or failed file doesn't fail other files, and failed chunk is retried alone.
+     * Retry of failed chunk is scheduled after backoff and goes back to the executor queue, so, no upload thread is sleeping for backoff.
+     * Chunk which is still failed after max attempts is marked as failed, and it can be uploaded again by resume with same uploadId.
+     * Chunks are sent to requestFileUploadDemo endpoint of endpoints.yml, so, url and headers are same with that endpoint.
+     * Every chunk request has uploadId, fileName, chunkIndex, chunkCount and offset fields, so, receiver can join chunks back into file.
+     */
+
+    // status of one chunk
+    private static final String PENDING = "PENDING";
+    private static final String UPLOADING = "UPLOADING";
+    private static final String DONE = "DONE";
+    private static final String FAILED = "FAILED";
+
+    private final Endpoint uploadEndpoint;
+    private final BasicAuthHeader basicAuthHeader;
+    private final BulkUploadConfig bulkUploadConfig;
+    private final FileUploadSupport fileUploadSupport;
+    private final StreamingMultipartUploader streamingMultipartUploader;
+    private final TaskExecutor bulkUploadExecutor;
+    private final TaskScheduler bulkUploadRetryScheduler;
+    private final TracingTaskDecorator tracingTaskDecorator;
+
+    private final Cache<String, UploadJob> uploadJobs;
+
+    public BulkUploadServiceImpl(EndpointRegistry endpointRegistry, BasicAuthHeader basicAuthHeader, BulkUploadConfig bulkUploadConfig,
+                                 FileUploadSupport fileUploadSupport,
+                                 StreamingMultipartUploader streamingMultipartUploader,
+                                 @Qualifier("bulkUploadExecutor") TaskExecutor bulkUploadExecutor,
+                                 @Qualifier("bulkUploadRetryScheduler") TaskScheduler bulkUploadRetryScheduler,
+                                 TracingTaskDecorator tracingTaskDecorator) {
+        this.uploadEndpoint = endpointRegistry.get("requestFileUploadDemo");
+        this.basicAuthHeader = basicAuthHeader;
+        this.bulkUploadConfig = bulkUploadConfig;
+        this.fileUploadSupport = fileUploadSupport;
+        this.streamingMultipartUploader = streamingMultipartUploader;
+        this.bulkUploadExecutor = bulkUploadExecutor;
+        this.bulkUploadRetryScheduler = bulkUploadRetryScheduler;
+        this.tracingTaskDecorator = tracingTaskDecorator;
+        this.uploadJobs = Caffeine.newBuilder()
+                .expireAfterAccess(bulkUploadConfig.getStatusRetention())
+                .build();
+    }
+
+    @Override
+    public BulkUploadStatus startUpload(List<String> fileNames) throws IOException {
+
+        if (fileNames == null || fileNames.isEmpty()) {
+            throw new IllegalArgumentException("No file to upload");
+        }
+
+        long chunkSize = bulkUploadConfig.getChunkSize().toBytes();
+        UploadJob uploadJob = new UploadJob(UUID.randomUUID().toString());
+        for (String fileName : fileNames) {
+            if (!bulkUploadConfig.getFiles().contains(fileName)) {
+                throw new IllegalArgumentException("File is not allowed to upload: " + fileName);
+            }
+            Resource resource = fileUploadSupport.getFileResource(fileName);
+            if (!resource.exists()) {
+                throw new IllegalArgumentException("File not found: " + fileName);
+            }
+            UploadFile uploadFile = new UploadFile(fileName, resource, resource.contentLength());
+            int chunkCount = (int) Math.max(1, (uploadFile.size + chunkSize - 1) / chunkSize);
+            for (int index = 0; index < chunkCount; index++) {
+                long offset = index * chunkSize;
+                uploadFile.chunks.add(new Chunk(uploadFile, index, chunkCount, offset, Math.min(chunkSize, uploadFile.size - offset)));
+            }
+            uploadJob.files.add(uploadFile);
+        }
+        uploadJobs.put(uploadJob.uploadId, uploadJob);
+
+        log.info("Bulk upload started, uploadId: {}, files: {}", uploadJob.uploadId, fileNames);
+        for (UploadFile uploadFile : uploadJob.files) {
+            for (Chunk chunk : uploadFile.chunks) {
+                submit(uploadJob, chunk, 1);
+            }
+        }
+        return toStatus(uploadJob);
+    }
+
+    @Override
+    public BulkUploadStatus getStatus(String uploadId) {
+        UploadJob uploadJob = uploadJobs.getIfPresent(uploadId);
+        return uploadJob == null ? null : toStatus(uploadJob);
+    }
+
+    @Override
+    public BulkUploadStatus resumeUpload(String uploadId) {
+        UploadJob uploadJob = uploadJobs.getIfPresent(uploadId);
+        if (uploadJob == null) {
+            return null;
+        }
+        log.info("Bulk upload resumed, uploadId: {}", uploadId);
+        for (UploadFile uploadFile : uploadJob.files) {
+            for (Chunk chunk : uploadFile.chunks) {
+                // uploaded chunks are not sent again, and only one of concurrent resume calls can take failed chunk.
+                if (chunk.status.compareAndSet(FAILED, PENDING)) {
+                    submit(uploadJob, chunk, 1);
+                }
+            }
+        }
+        return toStatus(uploadJob);
+    }
+
+    // chunk is PENDING here
+    private void submit(UploadJob uploadJob, Chunk chunk, int attempt) {
+        try {
+            bulkUploadExecutor.execute(() -> uploadChunk(uploadJob, chunk, attempt));
+        } catch (TaskRejectedException e) {
+            log.warn("Chunk is rejected, uploadId: {}, file: {}, chunk: {}", uploadJob.uploadId, chunk.file.fileName, chunk.index);
+            chunk.status.set(FAILED);
+        }
+    }
+
+    private void uploadChunk(UploadJob uploadJob, Chunk chunk, int attempt) {
+        chunk.status.set(UPLOADING);
+        UploadFile uploadFile = chunk.file;
+
+        MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
+        String partName = chunk.count == 1 ? uploadFile.fileName : uploadFile.fileName + ".part" + chunk.index;
+        parts.add("file", new ResourceRange(uploadFile.resource, chunk.offset, chunk.length, partName));
+        parts.add("uploadId", uploadJob.uploadId);
+        parts.add("fileName", uploadFile.fileName);
+        parts.add("chunkIndex", chunk.index);
+        parts.add("chunkCount", chunk.count);
+        parts.add("offset", chunk.offset);
+
+        try {
+            ResponseEntity<String> response = streamingMultipartUploader.post(uploadEndpoint.getUri(),
+                    uploadEndpoint.getHeaderTemplate().resolve(basicAuthHeader), parts);
+            if (response.getStatusCode().is2xxSuccessful()) {
+                chunk.status.set(DONE);
+                BulkUploadStatus status = toStatus(uploadJob);
+                log.info("Bulk upload progress, uploadId: {}, chunks: {}/{}, bytes: {}/{}", uploadJob.uploadId,
+                        status.getUploadedChunks(), status.getTotalChunks(), status.getUploadedBytes(), status.getTotalBytes());
+                return;
+            }
+            log.warn("Chunk upload attempt {} is failed, file: {}, chunk: {}, status: {}", attempt, uploadFile.fileName, chunk.index, response.getStatusCodeValue());
+        } catch (Exception e) {
+            log.warn("Chunk upload attempt {} is failed, file: {}, chunk: {}, error: {}", attempt, uploadFile.fileName, chunk.index, e.getMessage());
+        }
+
+        if (attempt < bulkUploadConfig.getMaxChunkAttempts()) {
+            // next attempt waits backoff on the timer, this thread is free for other chunks now.
+            chunk.status.set(PENDING);
+            Instant retryTime = Instant.now().plus(bulkUploadConfig.getChunkRetryBackoff().multipliedBy(attempt));
+            try {
+                // timer thread has no trace id, so, trace id of this upload is copied into retry task here.
+                bulkUploadRetryScheduler.schedule(tracingTaskDecorator.decorate(() -> submit(uploadJob, chunk, attempt + 1)), retryTime);
+                return;
+            } catch (TaskRejectedException e) {
+                log.warn("Chunk retry is rejected, uploadId: {}, file: {}, chunk: {}", uploadJob.uploadId, uploadFile.fileName, chunk.index);
+            }
+        }
+        chunk.status.set(FAILED);
+        log.error("Chunk is failed, uploadId: {}, file: {}, chunk: {}", uploadJob.uploadId, uploadFile.fileName, chunk.index);
+    }
+
+    private BulkUploadStatus toStatus(UploadJob uploadJob) {
+        List<BulkUploadFileStatus> fileStatuses = new ArrayList<>();
+        long totalBytes = 0;
+        long uploadedBytes = 0;
+        int totalChunks = 0;
+        int uploadedChunks = 0;
+        int failedChunks = 0;
+
+        for (UploadFile uploadFile : uploadJob.files) {
+            int fileUploadedChunks = 0;
+            int fileFailedChunks = 0;
+            for (Chunk chunk : uploadFile.chunks) {
+                String chunkStatus = chunk.status.get();
+                if (DONE.equals(chunkStatus)) {
+                    fileUploadedChunks++;
+                    uploadedBytes += chunk.length;
+                } else if (FAILED.equals(chunkStatus)) {
+                    fileFailedChunks++;
+                }
+            }
+            int fileTotalChunks = uploadFile.chunks.size();
+            fileStatuses.add(new BulkUploadFileStatus(uploadFile.fileName, statusOf(fileTotalChunks, fileUploadedChunks, fileFailedChunks),
+                    uploadFile.size, fileTotalChunks, fileUploadedChunks, fileFailedChunks));
+
+            totalBytes += uploadFile.size;
+            totalChunks += fileTotalChunks;
+            uploadedChunks += fileUploadedChunks;
+            failedChunks += fileFailedChunks;
+        }
+
+        return new BulkUploadStatus(uploadJob.uploadId, statusOf(totalChunks, uploadedChunks, failedChunks),
+                totalBytes, uploadedBytes, totalChunks, uploadedChunks, failedChunks, fileStatuses);
+    }
+
+    private static String statusOf(int totalChunks, int uploadedChunks, int failedChunks) {
+        if (uploadedChunks == totalChunks) {
+            return BulkUploadStatus.COMPLETED;
+        }
+        return uploadedChunks + failedChunks == totalChunks ? BulkUploadStatus.FAILED : BulkUploadStatus.UPLOADING;
+    }
+
+    private static final class UploadJob {
+        private final String uploadId;
+        private final List<UploadFile> files = new ArrayList<>();
+
+        private UploadJob(String uploadId) {
+            this.uploadId = uploadId;
+        }
+    }
+
+    private static final class UploadFile {
+        private final String fileName;
+        private final Resource resource;
+        private final long size;
+        private final List<Chunk> chunks = new ArrayList<>();
+
+        private UploadFile(String fileName, Resource resource, long size) {
+            this.fileName = fileName;
+            this.resource = resource;
+            this.size = size;
+        }
+    }
+
+    private static final class Chunk {
+        private final UploadFile file;
+        private final int index;
+        private final int count;
+        private final long offset;
+        private final long length;
+        private final AtomicReference<String> status = new AtomicReference<>(PENDING);
+
+        private Chunk(UploadFile file, int index, int count, long offset, long length) {
+            this.file = file;
+            this.index = index;
+            this.count = count;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package pers.yewin.restapisamplecallerservice.service.impl;
+
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.CallerService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service.impl
+ */
+
+@Component // create bean class
+public class CallerServiceCalls {
+
+    /**
+     * CallerService methods by name, so, aggregate and async apis can call any demo api by its name.
+     * Call name is same with CallerService method name, eg. callResponseObjectDemo
+     */
+
+    private final Map<String, Supplier<CallerServiceResponse>> calls = new LinkedHashMap<>();
+
+    public CallerServiceCalls(CallerService callerService) {
+        calls.put("callResponseSingleStringDemo", callerService::callResponseSingleStringDemo);
+        calls.put("callResponseSingleObjectDemo", callerService::callResponseSingleObjectDemo);
+        calls.put("callResponseObjectDemo", callerService::callResponseObjectDemo);
+        calls.put("callResponseStringListDemo", callerService::callResponseStringListDemo);
+        calls.put("callResponseObjectListDemo", callerService::callResponseObjectListDemo);
+        calls.put("callResponseCustomObjectListDemo", callerService::callResponseCustomObjectListDemo);
+        calls.put("callResponseNestedObjectDemo", callerService::callResponseNestedObjectDemo);
+        calls.put("callResponseNestedObjectAndNestedObjectListDemo", callerService::callResponseNestedObjectAndNestedObjectListDemo);
+        calls.put("callRequestBodyObjectDemo", callerService::callRequestBodyObjectDemo);
+        calls.put("callRequestBodyObjectListDemo", callerService::callRequestBodyObjectListDemo);
+        calls.put("callRequestBodyStringListDemo", callerService::callRequestBodyStringListDemo);
+        calls.put("callRequestPathVariableIntegerDemo", callerService::callRequestPathVariableIntegerDemo);
+        calls.put("callRequestMultiPathVariablesDemo", callerService::callRequestMultiPathVariablesDemo);
+        calls.put("callRequestParamStringDemo", callerService::callRequestParamStringDemo);
+        calls.put("callRequestMultiParamsDemo", callerService::callRequestMultiParamsDemo);
+        calls.put("callRequestPathVariableAndParamsDemo", callerService::callRequestPathVariableAndParamsDemo);
+        calls.put("callRequestFromHeaderDemo", callerService::callRequestFromHeaderDemo);
+        calls.put("callRequestFromHeaderAndRequestParamDemo", callerService::callRequestFromHeaderAndRequestParamDemo);
+        calls.put("callRequestFromHeaderAndRequestBodyDemo", callerService::callRequestFromHeaderAndRequestBodyDemo);
+        calls.put("callRequestFileUploadDemo", callerService::callRequestFileUploadDemo);
+        calls.put("callRequestFromHeaderAndBulkFileUploadDemo", callerService::callRequestFromHeaderAndBulkFileUploadDemo);
+        calls.put("callRequestPathVariableAndResponseObjectDemo", callerService::callRequestPathVariableAndResponseObjectDemo);
+        calls.put("callRequestParamStringAndResponseObjectListDemo", callerService::callRequestParamStringAndResponseObjectListDemo);
+        calls.put("callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemo", callerService::callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemo);
+        calls.put("callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo", callerService::callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo);
+        calls.put("callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo", callerService::callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo);
+        calls.put("callErrorBadRequestResponseDemo", callerService::callErrorBadRequestResponseDemo);
+        calls.put("callErrorNotFoundResponseDemo", callerService::callErrorNotFoundResponseDemo);
+        calls.put("callErrorInternalServerErrorResponseDemo", callerService::callErrorInternalServerErrorResponseDemo);
+    }
+
+    public boolean contains(String callName) {
+        return calls.containsKey(callName);
+    }
+
+    // throw IllegalArgumentException for unknown call name
+    public Supplier<CallerServiceResponse> get(String callName) {
+        Supplier<CallerServiceResponse> call = calls.get(callName);
+        if (call == null) {
+            throw new IllegalArgumentException("Unknown call name: " + callName);
+        }
+        return call;
+    }
+}
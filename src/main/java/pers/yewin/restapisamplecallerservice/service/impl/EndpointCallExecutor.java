@@ -0,0 +1,134 @@
+package pers.yewin.restapisamplecallerservice.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import pers.yewin.restapisamplecallerservice.client.BasicAuthHeader;
+import pers.yewin.restapisamplecallerservice.client.Endpoint;
+import pers.yewin.restapisamplecallerservice.client.EndpointRegistry;
+import pers.yewin.restapisamplecallerservice.client.HeaderTemplate;
+import pers.yewin.restapisamplecallerservice.client.SmileNegotiator;
+import pers.yewin.restapisamplecallerservice.client.StreamingMultipartUploader;
+import pers.yewin.restapisamplecallerservice.codec.RawJson;
+import pers.yewin.restapisamplecallerservice.logging.PayloadLogger;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service.impl
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+public class EndpointCallExecutor {
+
+    /**
+     * One api calling flow for every endpoint in endpoints.yml.
+     * prepare request -> log -> call api -> log -> check status code -> build CallerServiceResponse
+     * So, every demo api calling in CallerServiceImpl runs same code, and if you tune this flow, all api callings are tuned.
+     * @see EndpointRegistry for endpoint descriptors
+     */
+
+    private final EndpointRegistry endpointRegistry;
+    private final RestTemplate restTemplate;
+    private final StreamingMultipartUploader streamingMultipartUploader;
+    private final BasicAuthHeader basicAuthHeader;
+    private final SmileNegotiator smileNegotiator;
+    private final PayloadLogger payloadLogger;
+
+    public EndpointCallExecutor(EndpointRegistry endpointRegistry, RestTemplate restTemplate, StreamingMultipartUploader streamingMultipartUploader,
+                                BasicAuthHeader basicAuthHeader, SmileNegotiator smileNegotiator, PayloadLogger payloadLogger) {
+        this.endpointRegistry = endpointRegistry;
+        this.restTemplate = restTemplate;
+        this.streamingMultipartUploader = streamingMultipartUploader;
+        this.basicAuthHeader = basicAuthHeader;
+        this.smileNegotiator = smileNegotiator;
+        this.payloadLogger = payloadLogger;
+    }
+
+    public CallerServiceResponse execute(String endpointName) {
+        Endpoint endpoint = endpointRegistry.get(endpointName);
+        return execute(endpoint, endpoint.getBody(), endpoint.getRequestData());
+    }
+
+    // request body is given by caller instead of body from endpoints.yml, eg. batch of students from BatchCallerService
+    public CallerServiceResponse execute(String endpointName, Object body) {
+        return execute(endpointRegistry.get(endpointName), body, body);
+    }
+
+    private CallerServiceResponse execute(Endpoint endpoint, Object body, Object requestData) {
+
+        CallerServiceResponse callerResponse;
+        // create try catch to catch error while calling api.
+        try {
+
+            // headers (including Basic auth header) are prepared once and they are read only, not new headers in every api calling.
+            HttpHeaders headers = headerTemplateOf(endpoint, body).resolve(basicAuthHeader);
+
+            payloadLogger.request(endpoint.getUri().toString(), requestData, headers);
+
+            ResponseEntity<?> response;
+            if (endpoint.isMultipart()) {
+                // files are written to the socket while reading, file is not loaded into memory.
+                response = streamingMultipartUploader.post(endpoint.getUri(), headers, endpoint.getParts());
+            } else {
+                // exchange can call every http method with headers, body and response type (including generic type like List<Student>).
+                // url is already expanded and encoded URI, so, RestTemplate doesn't parse url template in every api calling.
+                HttpEntity<Object> httpEntity = new HttpEntity<>(body, headers);
+                response = restTemplate.exchange(endpoint.getUri(), endpoint.getMethod(), httpEntity, endpoint.getResponseType());
+            }
+
+            payloadLogger.response(response);
+
+            /**
+             * @see pers.yewin.restapisamplecallerservice.apierrorhandler.CustomizeRestTemplateErrorHandler#hasError(org.springframework.http.client.ClientHttpResponse) method
+             * without above method, we can't check http status code and it will always go into catch block if status code was error (4xx or 5xx) code
+             */
+            Object responseData = endpoint.isPassThrough() ? passThroughData(response) : response.getBody();
+            if (endpoint.isExpectedStatus(response.getStatusCodeValue())) {
+                callerResponse = new CallerServiceResponse<>("Response from third party", endpoint.getDescription(),
+                        response.getStatusCodeValue(), responseData);
+            } else {
+                // error response body is read into error type if endpoint has, eg. ResponseObjectList which has error status and message.
+                Object errorData = responseData;
+                if (endpoint.getErrorReader() != null && (errorData instanceof String || errorData instanceof RawJson)) {
+                    errorData = endpoint.getErrorReader().readValue(errorData.toString());
+                }
+                callerResponse = new CallerServiceResponse<>("Error Response from third party", endpoint.getDescription(),
+                        response.getStatusCodeValue(), errorData);
+            }
+
+        } catch (Exception e) {
+            log.error("error: {}", e.getMessage(), e);
+            // create new object and add error response by using arguments constructor.
+            callerResponse = new CallerServiceResponse<>("Error while calling api", e.getMessage(), 500, null);
+        }
+        return callerResponse;
+    }
+
+    // object request body is sent as smile only to receiver which has answered with smile, json for others.
+    // String body is already json text, so, it's always sent as it is.
+    private HeaderTemplate headerTemplateOf(Endpoint endpoint, Object body) {
+        if (endpoint.getSmileHeaderTemplate() != null && body != null && !(body instanceof CharSequence) && !(body instanceof byte[])
+                && smileNegotiator.canSendSmileBody(endpoint.getUri())) {
+            return endpoint.getSmileHeaderTemplate();
+        }
+        return endpoint.getHeaderTemplate();
+    }
+
+    // json bytes of receiver are written into our response as they are, other content (eg. text/plain) is given as String.
+    private static Object passThroughData(ResponseEntity<?> response) {
+        byte[] body = (byte[]) response.getBody();
+        if (body == null) {
+            return null;
+        }
+        return RawJson.isJson(response.getHeaders().getContentType()) ? RawJson.of(body) : new String(body, StandardCharsets.UTF_8);
+    }
+}
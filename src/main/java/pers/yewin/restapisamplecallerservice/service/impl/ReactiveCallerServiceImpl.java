@@ -0,0 +1,252 @@
+package pers.yewin.restapisamplecallerservice.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import pers.yewin.restapisamplecallerservice.client.BasicAuthHeader;
+import pers.yewin.restapisamplecallerservice.client.Endpoint;
+import pers.yewin.restapisamplecallerservice.client.EndpointRegistry;
+import pers.yewin.restapisamplecallerservice.codec.RawJson;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+import pers.yewin.restapisamplecallerservice.service.ReactiveCallerService;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service.impl
+ */
+
+@Slf4j // for logging by using lombok
+@Service // create bean class
+public class ReactiveCallerServiceImpl implements ReactiveCallerService {
+
+    /**
+     * This class is the WebClient twin of CallerServiceImpl and it calls same receiver apis with same endpoints of endpoints.yml.
+     * WebClient don't block the request thread while waiting for the receiver response,
+     * so, one application can hold many in-flight api callings without growing the thread pool.
+     * Url, headers, request body, response type and expected status all come from the Endpoint which is compiled by EndpointRegistry,
+     * so, both twins always send same requests. For explanation of every api calling, please look at same endpoint in endpoints.yml.
+     * @see CallerServiceImpl
+     * @see EndpointCallExecutor
+     */
+
+    @Autowired
+    private WebClient webClient;
+
+    @Autowired
+    private EndpointRegistry endpointRegistry;
+
+    @Autowired
+    private BasicAuthHeader basicAuthHeader; // Basic auth header value which is encoded only once
+
+
+    @Override
+    public Mono<CallerServiceResponse> callResponseSingleStringDemo() {
+        return callAPI("responseSingleStringDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callResponseSingleObjectDemo() {
+        return callAPI("responseSingleObjectDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callResponseObjectDemo() {
+        return callAPI("responseObjectDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callResponseStringListDemo() {
+        return callAPI("responseStringListDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callResponseObjectListDemo() {
+        return callAPI("responseObjectListDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callResponseCustomObjectListDemo() {
+        return callAPI("responseCustomObjectListDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callResponseNestedObjectDemo() {
+        return callAPI("responseNestedObjectDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callResponseNestedObjectAndNestedObjectListDemo() {
+        return callAPI("responseNestedObjectAndNestedObjectListDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestBodyObjectDemo() {
+        return callAPI("requestBodyObjectDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestBodyObjectListDemo() {
+        return callAPI("requestBodyObjectListDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestBodyStringListDemo() {
+        return callAPI("requestBodyStringListDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestPathVariableIntegerDemo() {
+        return callAPI("requestPathVariableIntegerDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestMultiPathVariablesDemo() {
+        return callAPI("requestMultiPathVariablesDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestParamStringDemo() {
+        return callAPI("requestParamStringDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestMultiParamsDemo() {
+        return callAPI("requestMultiParamsDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestPathVariableAndParamsDemo() {
+        return callAPI("requestPathVariableAndParamsDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestFromHeaderDemo() {
+        return callAPI("requestFromHeaderDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestFromHeaderAndRequestParamDemo() {
+        return callAPI("requestFromHeaderAndRequestParamDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestFromHeaderAndRequestBodyDemo() {
+        return callAPI("requestFromHeaderAndRequestBodyDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestFileUploadDemo() {
+        return callAPI("requestFileUploadDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestFromHeaderAndBulkFileUploadDemo() {
+        return callAPI("requestFromHeaderAndBulkFileUploadDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestPathVariableAndResponseObjectDemo() {
+        return callAPI("requestPathVariableAndResponseObjectDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestParamStringAndResponseObjectListDemo() {
+        return callAPI("requestParamStringAndResponseObjectListDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestFromHeaderAndRequestBodyAndResponseNestedObjectDemo() {
+        return callAPI("requestFromHeaderAndRequestBodyAndResponseNestedObjectDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo() {
+        return callAPI("requestFromHeaderAndRequestParamStringAndResponseNestedObjectListDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callRequestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo() {
+        return callAPI("requestFromHeaderAndPathVarAndParamsAndResponseNestedObjectListDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callErrorBadRequestResponseDemo() {
+        return callAPI("errorBadRequestResponseDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callErrorNotFoundResponseDemo() {
+        return callAPI("errorNotFoundResponseDemo");
+    }
+
+    @Override
+    public Mono<CallerServiceResponse> callErrorInternalServerErrorResponseDemo() {
+        return callAPI("errorInternalServerErrorResponseDemo");
+    }
+
+
+    /**
+     * This method will send the request of given endpoint and convert the receiver response to CallerServiceResponse.
+     * Success response body will be read with response type of endpoint and error response body will be read with error type of endpoint.
+     * Like CustomizeRestTemplateErrorHandler, 4xx and 5xx status codes will not go to error signal, we check them by ourselves.
+     */
+    private Mono<CallerServiceResponse> callAPI(String endpointName) {
+        Endpoint endpoint = endpointRegistry.get(endpointName);
+        // headers (including Basic auth header) are prepared once and they are read only.
+        HttpHeaders endpointHeaders = endpoint.getHeaderTemplate().resolve(basicAuthHeader);
+
+        // url is already expanded and encoded URI, so, WebClient uses it as it is.
+        WebClient.RequestBodySpec request = webClient.method(endpoint.getMethod())
+                .uri(endpoint.getUri())
+                .headers(headers -> headers.addAll(endpointHeaders));
+        WebClient.RequestHeadersSpec<?> requestWithBody = request;
+        if (endpoint.isMultipart()) {
+            requestWithBody = request.body(BodyInserters.fromMultipartData(endpoint.getParts()));
+        } else if (endpoint.getBody() != null) {
+            requestWithBody = request.bodyValue(endpoint.getBody());
+        }
+
+        return requestWithBody.exchangeToMono(response -> {
+                    int statusCode = response.rawStatusCode();
+                    boolean success = endpoint.isExpectedStatus(statusCode);
+                    return readBody(endpoint, response, success)
+                            .map(body -> buildCallerResponse(success, endpoint.getDescription(), statusCode, body))
+                            .defaultIfEmpty(buildCallerResponse(success, endpoint.getDescription(), statusCode, null));
+                })
+                .doOnNext(callerResponse -> log.info("thirdparty response status code: {}, description: {}", callerResponse.getThirdPartyResponseStatusCode(), endpoint.getDescription()))
+                .onErrorResume(e -> {
+                    log.error("error: {}", e.getMessage());
+                    // create new object and add error response by using arguments constructor.
+                    return Mono.just(new CallerServiceResponse<>("Error while calling api", e.getMessage(), 500, null));
+                });
+    }
+
+    private Mono<?> readBody(Endpoint endpoint, ClientResponse response, boolean success) {
+        if (!success && endpoint.getErrorReader() != null) {
+            // error response body is read into error type, eg. ResponseObjectList which has error status and message.
+            return response.bodyToMono(String.class)
+                    .flatMap(body -> Mono.fromCallable(() -> endpoint.getErrorReader().readValue(body)));
+        }
+        if (endpoint.isPassThrough()) {
+            // json bytes of receiver are written into our response as they are, other content (eg. text/plain) is given as String.
+            boolean json = RawJson.isJson(response.headers().contentType().orElse(null));
+            return response.bodyToMono(byte[].class)
+                    .map(body -> json ? RawJson.of(body) : new String(body, StandardCharsets.UTF_8));
+        }
+        return response.bodyToMono(endpoint.getResponseType());
+    }
+
+    private CallerServiceResponse buildCallerResponse(boolean success, String description, int statusCode, Object body) {
+        String message = success ? "Response from third party" : "Error Response from third party";
+        return new CallerServiceResponse<>(message, description, statusCode, body);
+    }
+}
@@ -0,0 +1,90 @@
+package pers.yewin.restapisamplecallerservice.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import pers.yewin.restapisamplecallerservice.client.EndpointRegistry;
+import pers.yewin.restapisamplecallerservice.codec.ElementConsumer;
+import pers.yewin.restapisamplecallerservice.codec.JsonCodec;
+import pers.yewin.restapisamplecallerservice.logging.PayloadLogger;
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+import pers.yewin.restapisamplecallerservice.service.StreamingCallerService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.service.impl
+ */
+
+@Service
+@Slf4j // for logging by using lombok
+public class StreamingCallerServiceImpl implements StreamingCallerService {
+
+    /**
+     * restTemplate.execute method gives us the response stream in ResponseExtractor,
+     * and we parse json array from that stream by using jackson streaming parser (jsonCodec.readArray).
+     * Response is closed by restTemplate after extractor is finished, so, all students must be consumed inside the extractor.
+     * Urls are taken from endpoints.yml descriptors which are already expanded and encoded at start up.
+     */
+
+    @Autowired
+    @Qualifier("streamingRestTemplate") // RestTemplate without response buffering interceptors
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private EndpointRegistry endpointRegistry;
+
+    @Autowired
+    private JsonCodec jsonCodec;
+
+    @Autowired
+    private PayloadLogger payloadLogger;
+
+    @Override
+    public long streamResponseObjectListDemo(ElementConsumer<Student> consumer) throws IOException {
+
+        URI uri = endpointRegistry.get("responseObjectListDemo").getUri();
+        payloadLogger.request(uri.toString(), null);
+        Long count = restTemplate.execute(uri, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)),
+                (ResponseExtractor<Long>) response -> jsonCodec.readArray(response.getBody(), Student.class, consumer));
+        log.info("thirdparty response streamed, students: {}", count);
+        return count;
+    }
+
+    @Override
+    public long streamRequestParamStringAndResponseObjectListDemo(ElementConsumer<Student> consumer) throws IOException {
+
+        // name and phone query params are in endpoints.yml
+        URI uri = endpointRegistry.get("requestParamStringAndResponseObjectListDemo").getUri();
+        payloadLogger.request(uri.toString(), null);
+        Long count = restTemplate.execute(uri, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)),
+                (ResponseExtractor<Long>) response -> jsonCodec.readArray(response.getBody(), Student.class, consumer));
+        log.info("thirdparty response streamed, students: {}", count);
+        return count;
+    }
+
+    @Override
+    public long streamResponseNestedObjectAndNestedObjectListDemo(ElementConsumer<Student> consumer) throws IOException {
+
+        URI uri = endpointRegistry.get("responseNestedObjectAndNestedObjectListDemo").getUri();
+        payloadLogger.request(uri.toString(), null);
+        // timestamp and status fields of ResponseObjectList are skipped, only students in dataList are given to consumer.
+        Long count = restTemplate.execute(uri, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)),
+                (ResponseExtractor<Long>) response -> jsonCodec.readArrayField(response.getBody(), "dataList", Student.class, consumer));
+        log.info("thirdparty response streamed, students: {}", count);
+        return count;
+    }
+}
@@ -0,0 +1,82 @@
+package pers.yewin.restapisamplecallerservice.tracing;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.tracing
+ */
+
+public final class OutboundTiming {
+
+    /**
+     * Timing of network phases of one outbound api calling, it is kept in ThreadLocal while the call is running.
+     * Pooled client engine (Apache HttpClient) runs dns, connect, send and receive on the calling thread,
+     * so, its hooks can write here and TracingInterceptor will read them after the call.
+     * dns and connect are zero when pooled keep-alive connection is reused, that is normal case.
+     * Simple engine has no hooks, so, only total wait time until response headers is known.
+     */
+
+    private static final ThreadLocal<OutboundTiming> CURRENT = new ThreadLocal<>();
+
+    private long dnsNanos;
+    private long connectNanos;
+    private long requestSentAt;      // request headers and body are written
+    private long headersReceivedAt;  // response headers are read
+
+    public static OutboundTiming start() {
+        OutboundTiming timing = new OutboundTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static OutboundTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    // these are called from client engine hooks, nothing happens when there is no running call.
+    public static void addDns(long nanos) {
+        OutboundTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.dnsNanos += nanos;
+        }
+    }
+
+    public static void addConnect(long nanos) {
+        OutboundTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.connectNanos += nanos;
+        }
+    }
+
+    public static void markRequestSent() {
+        OutboundTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.requestSentAt = System.nanoTime();
+        }
+    }
+
+    public static void markHeadersReceived() {
+        OutboundTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.headersReceivedAt = System.nanoTime();
+        }
+    }
+
+    public long getDnsNanos() {
+        return dnsNanos;
+    }
+
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    // time to first byte, from request sent until response headers, -1 if engine has no hooks
+    public long getTtfbNanos() {
+        return requestSentAt > 0 && headersReceivedAt >= requestSentAt ? headersReceivedAt - requestSentAt : -1;
+    }
+}
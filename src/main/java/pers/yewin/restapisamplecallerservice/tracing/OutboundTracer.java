@@ -0,0 +1,90 @@
+package pers.yewin.restapisamplecallerservice.tracing;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.client.EndpointResolver;
+import pers.yewin.restapisamplecallerservice.config.TracingConfig;
+
+import java.net.URI;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.tracing
+ */
+
+@Component // create bean class
+public class OutboundTracer {
+
+    /**
+     * CLIENT span for every outbound api calling, it is used by TracingInterceptor and StreamingMultipartUploader.
+     * 1. start()           -> new child span of current (inbound) span, 'traceparent' header is added into request headers
+     * 2. headersReceived() -> status and network timing (dnsMs, connectMs, ttfbMs) are added
+     * 3. finish()          -> bodyReadMs is added when response is closed, and span is reported
+     * or failed()          -> when there is no response (io error, circuit breaker is open, etc)
+     * All methods do nothing for null span, start() returns null when tracing is disabled.
+     */
+
+    private final TracingConfig tracingConfig;
+    private final EndpointResolver endpointResolver;
+    private final SpanReporter spanReporter;
+
+    public OutboundTracer(TracingConfig tracingConfig, EndpointResolver endpointResolver, SpanReporter spanReporter) {
+        this.tracingConfig = tracingConfig;
+        this.endpointResolver = endpointResolver;
+        this.spanReporter = spanReporter;
+    }
+
+    public Span start(String method, URI uri, HttpHeaders requestHeaders) {
+        if (!tracingConfig.isEnabled()) {
+            return null;
+        }
+        TraceContext parent = TraceContext.current();
+        TraceContext context = parent != null ? parent.child() : TraceContext.newRoot();
+        requestHeaders.set(TraceContext.TRACEPARENT_HEADER, context.toTraceparent());
+        OutboundTiming.start();
+        return new Span(Span.CLIENT, method + " " + endpointResolver.resolve(uri), context);
+    }
+
+    // return the time when headers are received, to calculate body read time in finish()
+    public long headersReceived(Span span, int status) {
+        if (span == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        addTiming(span, now);
+        span.attribute("status", status);
+        return now;
+    }
+
+    public void finish(Span span, long headersReceivedAt) {
+        if (span == null) {
+            return;
+        }
+        span.millis("bodyReadMs", System.nanoTime() - headersReceivedAt);
+        spanReporter.report(span.end());
+    }
+
+    public void failed(Span span, Throwable error) {
+        if (span == null) {
+            return;
+        }
+        addTiming(span, System.nanoTime());
+        span.attribute("error", error.getClass().getSimpleName());
+        spanReporter.report(span.end());
+    }
+
+    private void addTiming(Span span, long now) {
+        OutboundTiming timing = OutboundTiming.current();
+        OutboundTiming.clear();
+        if (timing == null) {
+            return;
+        }
+        span.millis("dnsMs", timing.getDnsNanos());
+        span.millis("connectMs", timing.getConnectNanos());
+        // without engine hooks, ttfb is whole wait time until response (includes pool waiting, connect and sending)
+        long ttfb = timing.getTtfbNanos();
+        span.millis("ttfbMs", ttfb >= 0 ? ttfb : now - span.getStartNanos() - timing.getDnsNanos() - timing.getConnectNanos());
+    }
+}
@@ -0,0 +1,75 @@
+package pers.yewin.restapisamplecallerservice.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.tracing
+ */
+
+public class Span {
+
+    /**
+     * One timed operation of the trace, SERVER span for inbound request and CLIENT span for outbound api calling.
+     * Attributes are extra information like http status and timing of network phases.
+     */
+
+    public static final String SERVER = "SERVER";
+    public static final String CLIENT = "CLIENT";
+
+    private final String kind;
+    private final String name;
+    private final TraceContext context;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private long durationNanos = -1;
+
+    public Span(String kind, String name, TraceContext context) {
+        this.kind = kind;
+        this.name = name;
+        this.context = context;
+    }
+
+    public Span attribute(String key, Object value) {
+        attributes.put(key, value);
+        return this;
+    }
+
+    // attribute in milliseconds with 3 decimals
+    public Span millis(String key, long nanos) {
+        return attribute(key, TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0);
+    }
+
+    public Span end() {
+        durationNanos = System.nanoTime() - startNanos;
+        return this;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TraceContext getContext() {
+        return context;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+}
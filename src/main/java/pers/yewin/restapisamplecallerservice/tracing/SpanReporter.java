@@ -0,0 +1,48 @@
+package pers.yewin.restapisamplecallerservice.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import pers.yewin.restapisamplecallerservice.config.TracingConfig;
+
+import java.util.Map;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.tracing
+ */
+
+@Slf4j // for logging by using lombok
+@Component // create bean class
+public class SpanReporter {
+
+    /**
+     * Finished spans are written to the log as one line (key=value), so, they can be searched by traceId with other logs.
+     * If you have tracing backend (eg. Zipkin, Jaeger), this is the place to send spans to that backend.
+     */
+
+    private final TracingConfig tracingConfig;
+
+    public SpanReporter(TracingConfig tracingConfig) {
+        this.tracingConfig = tracingConfig;
+    }
+
+    public void report(Span span) {
+        if (!tracingConfig.isReportSpans() || !log.isInfoEnabled()) {
+            return;
+        }
+        TraceContext context = span.getContext();
+        StringBuilder line = new StringBuilder(256)
+                .append("span kind=").append(span.getKind())
+                .append(" name=\"").append(span.getName()).append('"')
+                .append(" traceId=").append(context.getTraceId())
+                .append(" spanId=").append(context.getSpanId())
+                .append(" parentId=").append(context.getParentSpanId() == null ? "-" : context.getParentSpanId())
+                .append(" durationMs=").append(span.getDurationNanos() / 1000 / 1000.0);
+        for (Map.Entry<String, Object> attribute : span.getAttributes().entrySet()) {
+            line.append(' ').append(attribute.getKey()).append('=').append(attribute.getValue());
+        }
+        log.info(line.toString());
+    }
+}
@@ -0,0 +1,130 @@
+package pers.yewin.restapisamplecallerservice.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.tracing
+ */
+
+public final class TraceContext {
+
+    /**
+     * W3C trace context of one span, it is sent to receiver as 'traceparent' header.
+     * traceparent format -> version-traceId-spanId-flags, eg. 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01
+     * Trace id is same for every span of one request (inbound and all outbound calls), so, logs of caller and receiver can be joined by trace id.
+     * Current context of the thread is kept in ThreadLocal, and TracingTaskDecorator copies it to executor threads.
+     */
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final String VERSION = "00";
+    private static final String SAMPLED = "01";
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId; // null for root span
+    private final String flags;
+
+    private TraceContext(String traceId, String spanId, String parentSpanId, String flags) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.flags = flags;
+    }
+
+    // start new trace when there is no traceparent from client
+    public static TraceContext newRoot() {
+        return new TraceContext(randomHex(2), randomHex(1), null, SAMPLED);
+    }
+
+    // parse traceparent header, return null if it is not valid, so, caller can start new trace.
+    public static TraceContext parse(String traceparent) {
+        if (traceparent == null || traceparent.length() != 55) {
+            return null;
+        }
+        String[] parts = traceparent.split("-");
+        if (parts.length != 4 || "ff".equals(parts[0]) || !isHex(parts[1], 32) || !isHex(parts[2], 16) || !isHex(parts[3], 2)
+                || isZero(parts[1]) || isZero(parts[2])) {
+            return null;
+        }
+        return new TraceContext(parts[1], parts[2], null, parts[3]);
+    }
+
+    // new span in same trace, this span will be the parent
+    public TraceContext child() {
+        return new TraceContext(traceId, randomHex(1), spanId, flags);
+    }
+
+    public String toTraceparent() {
+        return VERSION + "-" + traceId + "-" + spanId + "-" + flags;
+    }
+
+    public static TraceContext current() {
+        return CURRENT.get();
+    }
+
+    // set current context of this thread and return previous one to restore later
+    public static TraceContext makeCurrent(TraceContext context) {
+        TraceContext previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    private static String randomHex(int longs) {
+        StringBuilder hex = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            long value;
+            do {
+                value = ThreadLocalRandom.current().nextLong();
+            } while (value == 0); // all zero id is invalid
+            String part = Long.toHexString(value);
+            for (int pad = part.length(); pad < 16; pad++) {
+                hex.append('0');
+            }
+            hex.append(part);
+        }
+        return hex.toString();
+    }
+
+    private static boolean isHex(String value, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
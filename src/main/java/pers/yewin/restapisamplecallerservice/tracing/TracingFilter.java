@@ -0,0 +1,116 @@
+package pers.yewin.restapisamplecallerservice.tracing;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import pers.yewin.restapisamplecallerservice.config.TracingConfig;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.tracing
+ */
+
+@Component // create bean class
+@Order(Ordered.HIGHEST_PRECEDENCE) // run before other filters, so, their logs also have trace id
+public class TracingFilter extends OncePerRequestFilter {
+
+    /**
+     * This filter will create SERVER span for every inbound request.
+     * If client sends 'traceparent' header, same trace is continued, else new trace is started.
+     * traceId and spanId are put into MDC, so, every log line of this request has them (see logging.pattern.level),
+     * and outbound api callings in this request become child spans (TracingInterceptor).
+     * 'traceresponse' header is returned, so, client can find the trace of its request.
+     * For async requests (DeferredResult, streaming), span is finished when async processing is completed.
+     */
+
+    public static final String TRACE_ID = "traceId";
+    public static final String SPAN_ID = "spanId";
+    public static final String TRACERESPONSE_HEADER = "traceresponse";
+
+    private final TracingConfig tracingConfig;
+    private final SpanReporter spanReporter;
+
+    public TracingFilter(TracingConfig tracingConfig, SpanReporter spanReporter) {
+        this.tracingConfig = tracingConfig;
+        this.spanReporter = spanReporter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !tracingConfig.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        TraceContext incoming = TraceContext.parse(request.getHeader(TraceContext.TRACEPARENT_HEADER));
+        TraceContext context = incoming != null ? incoming.child() : TraceContext.newRoot();
+        Span span = new Span(Span.SERVER, request.getMethod() + " " + request.getRequestURI(), context);
+        response.setHeader(TRACERESPONSE_HEADER, context.toTraceparent());
+
+        TraceContext previous = TraceContext.makeCurrent(context);
+        MDC.put(TRACE_ID, context.getTraceId());
+        MDC.put(SPAN_ID, context.getSpanId());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new SpanAsyncListener(span, response));
+            } else {
+                finish(span, response.getStatus());
+            }
+            TraceContext.makeCurrent(previous);
+            MDC.remove(TRACE_ID);
+            MDC.remove(SPAN_ID);
+        }
+    }
+
+    private void finish(Span span, int status) {
+        spanReporter.report(span.attribute("status", status).end());
+    }
+
+    private final class SpanAsyncListener implements AsyncListener {
+
+        private final Span span;
+        private final HttpServletResponse response;
+
+        private SpanAsyncListener(Span span, HttpServletResponse response) {
+            this.span = span;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finish(span, response.getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            span.attribute("error", "AsyncTimeout");
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            span.attribute("error", event.getThrowable() == null ? "AsyncError" : event.getThrowable().getClass().getSimpleName());
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // async is started again by the same request, keep this listener
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package pers.yewin.restapisamplecallerservice.tracing;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * @author: Ye Win
+ * @created: 17/10/2026
+ * @project: restapi-sample-caller-service
+ * @package: pers.yewin.restapisamplecallerservice.tracing
+ */
+
+@Component // create bean class
+public class TracingTaskDecorator implements TaskDecorator {
+
+    /**
+     * Trace context and MDC are ThreadLocal, so, they are lost when work goes to executor thread (aggregate, async, bulk upload, streaming).
+     * This decorator copies them from submitting thread to executor thread and cleans them after the task,
+     * so, api callings on executor threads are still child spans of the request and their logs have same trace id.
+     */
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        TraceContext context = TraceContext.current();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            TraceContext previous = TraceContext.makeCurrent(context);
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            if (mdc == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                runnable.run();
+            } finally {
+                TraceContext.makeCurrent(previous);
+                if (previousMdc == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previousMdc);
+                }
+            }
+        };
+    }
+}
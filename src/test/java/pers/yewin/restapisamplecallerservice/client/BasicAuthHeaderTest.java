@@ -0,0 +1,32 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import pers.yewin.restapisamplecallerservice.config.ReceiverServiceCredentialsConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BasicAuthHeaderTest {
+
+    @Test
+    void headersAreMergedOnceAndEncodedAgainWhenCredentialsAreRotated() {
+        ReceiverServiceCredentialsConfig credentials = new ReceiverServiceCredentialsConfig();
+        credentials.setUsername("username");
+        credentials.setPassword("password");
+        BasicAuthHeader basicAuthHeader = new BasicAuthHeader(credentials);
+
+        HttpHeaders staticHeaders = new HttpHeaders();
+        staticHeaders.setContentType(MediaType.APPLICATION_JSON);
+        HeaderTemplate headerTemplate = new HeaderTemplate(staticHeaders, true);
+
+        HttpHeaders headers = headerTemplate.resolve(basicAuthHeader);
+        assertEquals("Basic dXNlcm5hbWU6cGFzc3dvcmQ=", headers.getFirst(HttpHeaders.AUTHORIZATION));
+        assertEquals(MediaType.APPLICATION_JSON, headers.getContentType());
+        assertSame(headers, headerTemplate.resolve(basicAuthHeader));
+
+        credentials.setPassword("rotated");
+        assertEquals("Basic dXNlcm5hbWU6cm90YXRlZA==", headerTemplate.resolve(basicAuthHeader).getFirst(HttpHeaders.AUTHORIZATION));
+    }
+}
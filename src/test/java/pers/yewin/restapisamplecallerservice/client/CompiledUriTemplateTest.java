@@ -0,0 +1,58 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledUriTemplateTest {
+
+    @Test
+    void expandIsSameWithRestTemplate() {
+        String template = "http://localhost:8081/api/{accName}/card/{card}?pageNo=0&name=Ye Win&phone=+959123456789&sort={sortBy}";
+        Map<String, Object> uriVariables = new LinkedHashMap<>();
+        uriVariables.put("accName", "YE WIN");
+        uriVariables.put("card", "VISA");
+        uriVariables.put("sortBy", "id desc");
+
+        DefaultUriBuilderFactory restTemplateUriFactory = new DefaultUriBuilderFactory();
+        restTemplateUriFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.URI_COMPONENT);
+
+        assertEquals(restTemplateUriFactory.expand(template, uriVariables),
+                CompiledUriTemplate.compile(template).expand(uriVariables));
+    }
+
+    @Test
+    void fixedQueryParamValuesAreFullyEncoded() {
+        Map<String, String> queryParams = new LinkedHashMap<>();
+        queryParams.put("name", "Ye Win");
+        queryParams.put("filter", "a=1&b=2+3%");
+        CompiledUriTemplate uriTemplate = CompiledUriTemplate.compile("http://localhost:8081/api/{id}?pageNo=0").withQueryParams(queryParams);
+
+        assertEquals("http://localhost:8081/api/1?pageNo=0&name=Ye%20Win&filter=a%3D1%26b%3D2%2B3%25",
+                uriTemplate.expandToString(Collections.singletonMap("id", 1)));
+    }
+
+    @Test
+    void queryVariableValueIsFullyEncoded() {
+        CompiledUriTemplate uriTemplate = CompiledUriTemplate.compile("http://localhost:8081/api?phone={phone}&filter={filter}");
+        Map<String, Object> uriVariables = new LinkedHashMap<>();
+        uriVariables.put("phone", "+959123456789");
+        uriVariables.put("filter", "a=1&b");
+
+        assertEquals("http://localhost:8081/api?phone=%2B959123456789&filter=a%3D1%26b", uriTemplate.expandToString(uriVariables));
+    }
+
+    @Test
+    void missingVariableIsRejected() {
+        CompiledUriTemplate uriTemplate = CompiledUriTemplate.compile("http://localhost:8081/api/{id}");
+
+        assertEquals("http://localhost:8081/api/1", uriTemplate.expandToString(Collections.singletonMap("id", 1)));
+        assertThrows(IllegalArgumentException.class, () -> uriTemplate.expand(Collections.emptyMap()));
+    }
+}
@@ -0,0 +1,66 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DecompressingClientHttpResponseTest {
+
+    private static final String JSON = "{\"students\":[" + "{\"name\":\"Ye Win\",\"age\":30},".repeat(200) + "{}]}";
+
+    @Test
+    void gzipBodyIsDecompressedAndBytesAreCountedOnClose() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+        AtomicLongArray counted = new AtomicLongArray(2);
+
+        DecompressingClientHttpResponse response = new DecompressingClientHttpResponse(
+                wireResponse(compressed.toByteArray(), "gzip"), "gzip", (compressedBytes, decompressedBytes) -> {
+                    counted.set(0, compressedBytes);
+                    counted.set(1, decompressedBytes);
+                });
+
+        assertEquals(JSON, StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        response.close();
+
+        assertEquals(compressed.size(), counted.get(0));
+        assertEquals(JSON.length(), counted.get(1));
+    }
+
+    @Test
+    void rawDeflateBodyWithoutZlibHeaderIsAlsoDecompressed() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(compressed, new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+            deflate.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+
+        DecompressingClientHttpResponse response = new DecompressingClientHttpResponse(
+                wireResponse(compressed.toByteArray(), "deflate"), "deflate", (compressedBytes, decompressedBytes) -> { });
+
+        assertEquals(JSON, StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
+        response.close();
+    }
+
+    private static MockClientHttpResponse wireResponse(byte[] body, String encoding) {
+        MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+        response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, encoding);
+        response.getHeaders().setContentLength(body.length);
+        return response;
+    }
+}
@@ -0,0 +1,125 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MicroBatcherTest {
+
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<List<Integer>> sentBatches = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        flushScheduler.shutdownNow();
+    }
+
+    @Test
+    void fullBatchIsSentAndEveryCallerGetsOwnResult() throws Exception {
+        // long delay, so, only batch size can flush
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>("test", 3, Duration.ofMinutes(1), 10,
+                this::send, Runnable::run, flushScheduler);
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            results.add(batcher.submit(i));
+        }
+
+        assertEquals(List.of(List.of(1, 2, 3)), sentBatches);
+        assertEquals("result of 2", results.get(1).get(1, TimeUnit.SECONDS));
+        assertEquals(0, batcher.getPendingItems());
+    }
+
+    @Test
+    void batchWhichIsNotFullIsSentAfterMaxDelay() throws Exception {
+        // timer is driven by the test, so, result doesn't depend on thread scheduling
+        ScheduledExecutorService manualScheduler = mock(ScheduledExecutorService.class);
+        ArgumentCaptor<Runnable> flushTimer = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(mock(ScheduledFuture.class)).when(manualScheduler).schedule(flushTimer.capture(), anyLong(), any(TimeUnit.class));
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>("test", 100, Duration.ofMillis(20), 100,
+                this::send, Runnable::run, manualScheduler);
+
+        CompletableFuture<String> first = batcher.submit(1);
+        CompletableFuture<String> second = batcher.submit(2);
+
+        verify(manualScheduler).schedule(any(Runnable.class), eq(Duration.ofMillis(20).toNanos()), eq(TimeUnit.NANOSECONDS));
+        assertTrue(sentBatches.isEmpty());
+
+        flushTimer.getValue().run(); // max delay is over
+        assertEquals("result of 1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("result of 2", second.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2)), sentBatches);
+    }
+
+    @Test
+    void timerOfSentBatchDoesNotSendNextBatch() {
+        ScheduledExecutorService manualScheduler = mock(ScheduledExecutorService.class);
+        ArgumentCaptor<Runnable> flushTimers = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(mock(ScheduledFuture.class)).when(manualScheduler).schedule(flushTimers.capture(), anyLong(), any(TimeUnit.class));
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>("test", 2, Duration.ofMillis(20), 100,
+                this::send, Runnable::run, manualScheduler);
+
+        batcher.submit(1);
+        batcher.submit(2); // full batch is sent, but its timer is already running (cancel can't stop it)
+        batcher.submit(3);
+
+        flushTimers.getAllValues().get(0).run(); // timer of first batch
+        assertEquals(List.of(List.of(1, 2)), sentBatches);
+
+        flushTimers.getAllValues().get(1).run(); // timer of second batch
+        assertEquals(List.of(List.of(1, 2), List.of(3)), sentBatches);
+    }
+
+    @Test
+    void everyCallerGetsErrorOfSender() {
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>("test", 2, Duration.ofMinutes(1), 2,
+                items -> { throw new OutOfMemoryError("test"); }, Runnable::run, flushScheduler);
+
+        CompletableFuture<String> first = batcher.submit(1);
+        assertThrows(OutOfMemoryError.class, () -> batcher.submit(2)); // sender runs on caller thread here
+
+        assertTrue(first.isCompletedExceptionally());
+        assertEquals(0, batcher.getPendingItems());
+    }
+
+    @Test
+    void itemsOverMaxPendingAreRejected() {
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>("test", 2, Duration.ofMinutes(1), 2,
+                this::send, task -> { }, flushScheduler); // sender never runs, so, items stay pending
+
+        batcher.submit(1);
+        batcher.submit(2);
+
+        assertThrows(RejectedExecutionException.class, () -> batcher.submit(3));
+    }
+
+    private List<String> send(List<Integer> items) {
+        sentBatches.add(new ArrayList<>(items));
+        List<String> results = new ArrayList<>();
+        for (Integer item : items) {
+            results.add("result of " + item);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,34 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryBudgetTest {
+
+    @Test
+    void retriesStopWhenBudgetIsUsedAndComeBackWithNewCalls() {
+        RetryBudget retryBudget = new RetryBudget(0.5, 2);
+
+        assertTrue(retryBudget.tryWithdraw());
+        assertTrue(retryBudget.tryWithdraw());
+        assertFalse(retryBudget.tryWithdraw());
+
+        retryBudget.deposit();
+        assertFalse(retryBudget.tryWithdraw());
+        retryBudget.deposit();
+        assertTrue(retryBudget.tryWithdraw());
+    }
+
+    @Test
+    void budgetCanNotGrowMoreThanMaxTokens() {
+        RetryBudget retryBudget = new RetryBudget(1, 3);
+
+        for (int i = 0; i < 10; i++) {
+            retryBudget.deposit();
+        }
+        assertEquals(3, retryBudget.getTokens());
+    }
+}
@@ -0,0 +1,52 @@
+package pers.yewin.restapisamplecallerservice.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import pers.yewin.restapisamplecallerservice.codec.JsonCodec;
+import pers.yewin.restapisamplecallerservice.config.SmileConfig;
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmileNegotiatorTest {
+
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final SmileNegotiator smileNegotiator = new SmileNegotiator(new SmileConfig(),
+            new MappingJackson2SmileHttpMessageConverter(smileMapper), new JsonCodec(new ObjectMapper()));
+
+    @Test
+    void smileBodyIsSentOnlyAfterReceiverAnswersWithSmileUntilItRejectsSmile() {
+        URI uri = URI.create("http://localhost:8081/receiver-service/api/requestBodyObjectDemo");
+
+        assertFalse(smileNegotiator.canSendSmileBody(uri));
+        smileNegotiator.onResponse(URI.create("http://localhost:8081/receiver-service/api/responseObjectDemo"), MediaType.APPLICATION_JSON);
+        assertFalse(smileNegotiator.canSendSmileBody(uri));
+
+        smileNegotiator.onResponse(URI.create("http://localhost:8081/receiver-service/api/responseObjectDemo"), SmileNegotiator.APPLICATION_SMILE);
+        assertTrue(smileNegotiator.canSendSmileBody(uri));
+        assertFalse(smileNegotiator.canSendSmileBody(URI.create("http://localhost:9090/other")));
+
+        smileNegotiator.onSmileBodyRejected(uri);
+        smileNegotiator.onResponse(uri, SmileNegotiator.APPLICATION_SMILE);
+        assertFalse(smileNegotiator.canSendSmileBody(uri));
+    }
+
+    @Test
+    void smileBodyIsChangedIntoSameJson() throws Exception {
+        Student student = new Student();
+        student.setName("Ye Win");
+        student.setAddress("Yangon");
+
+        byte[] json = smileNegotiator.toJson(smileMapper.writeValueAsBytes(student));
+
+        assertEquals(new ObjectMapper().writeValueAsString(student), new String(json, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,37 @@
+package pers.yewin.restapisamplecallerservice.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import pers.yewin.restapisamplecallerservice.model.response.CallerServiceResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RawJsonTest {
+
+    private static final String STUDENTS = "[{\"id\":1,\"name\":\"Ye Win\",\"className\":\"Room A\"}]";
+
+    @Test
+    void jsonIsWrittenAsItIsInsideCallerServiceResponse() throws Exception {
+        CallerServiceResponse<RawJson> response = new CallerServiceResponse<>("Response from third party", "call ResponseObjectListDemo API",
+                200, RawJson.of(STUDENTS.getBytes(StandardCharsets.UTF_8)));
+
+        String json = new ObjectMapper().writeValueAsString(response);
+
+        assertEquals("{\"message\":\"Response from third party\",\"description\":\"call ResponseObjectListDemo API\","
+                + "\"thirdPartyResponseStatusCode\":200,\"thirdPartyResponseData\":" + STUDENTS + "}", json);
+    }
+
+    @Test
+    void jsonIsConvertedForSmileOutput() throws Exception {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+        byte[] smile = smileMapper.writeValueAsBytes(RawJson.of(STUDENTS.getBytes(StandardCharsets.UTF_8)));
+
+        JsonNode students = smileMapper.readTree(smile);
+        assertEquals(new ObjectMapper().readTree(STUDENTS), students);
+    }
+}
@@ -0,0 +1,42 @@
+package pers.yewin.restapisamplecallerservice.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.Test;
+import pers.yewin.restapisamplecallerservice.client.VirtualThreads;
+import pers.yewin.restapisamplecallerservice.tracing.TracingTaskDecorator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class VirtualThreadConfigurerTest {
+
+    @Test
+    void tomcatThreadPoolIsKeptWhenVirtualThreadsAreNotEnabled() {
+        VirtualThreadConfigurer configurer = new VirtualThreadConfigurer(new ExecutionConfig(), new TracingTaskDecorator());
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+
+        configurer.customize(protocolHandler);
+
+        assertFalse(configurer.isVirtualThreads());
+        verify(protocolHandler, never()).setExecutor(any());
+    }
+
+    @Test
+    void fallBackToPlatformThreadsWhenJvmHasNoVirtualThreads() {
+        assumeFalse(VirtualThreads.isSupported(), "this jvm supports virtual threads");
+        ExecutionConfig executionConfig = new ExecutionConfig();
+        executionConfig.setVirtualThreads(true);
+        VirtualThreadConfigurer configurer = new VirtualThreadConfigurer(executionConfig, new TracingTaskDecorator());
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+
+        configurer.customize(protocolHandler);
+
+        assertFalse(configurer.isVirtualThreads());
+        verify(protocolHandler, never()).setExecutor(any());
+        configurer.destroy();
+    }
+}
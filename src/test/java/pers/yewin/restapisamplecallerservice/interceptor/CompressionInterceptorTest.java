@@ -0,0 +1,28 @@
+package pers.yewin.restapisamplecallerservice.interceptor;
+
+import org.junit.jupiter.api.Test;
+import pers.yewin.restapisamplecallerservice.config.CompressionConfig;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompressionInterceptorTest {
+
+    @Test
+    void encodingWhichCanNotBeDecodedIsRejectedAtStartUp() {
+        CompressionConfig compressionConfig = new CompressionConfig();
+        compressionConfig.setEncodings(Arrays.asList("gzip", "br"));
+
+        assertThrows(IllegalArgumentException.class, () -> new CompressionInterceptor(compressionConfig, null, null));
+    }
+
+    @Test
+    void supportedEncodingsWithQualityValueAreAccepted() {
+        CompressionConfig compressionConfig = new CompressionConfig();
+        compressionConfig.setEncodings(Arrays.asList("gzip;q=1.0", "X-GZIP", "deflate;q=0.5", "identity;q=0.1"));
+
+        assertDoesNotThrow(() -> new CompressionInterceptor(compressionConfig, null, null));
+    }
+}
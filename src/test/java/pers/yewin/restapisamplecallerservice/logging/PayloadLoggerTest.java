@@ -0,0 +1,46 @@
+package pers.yewin.restapisamplecallerservice.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import pers.yewin.restapisamplecallerservice.codec.JsonCodec;
+import pers.yewin.restapisamplecallerservice.config.PayloadLoggingConfig;
+import pers.yewin.restapisamplecallerservice.model.request.Student;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayloadLoggerTest {
+
+    @Test
+    void bigListIsCutAtMaxLength() {
+        PayloadLoggingConfig config = new PayloadLoggingConfig();
+        config.setMaxLength(100);
+        PayloadLogger payloadLogger = new PayloadLogger(new JsonCodec(new ObjectMapper()), config);
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            students.add(new Student((long) i, "Ye Win", "Yangon", "+959123456789", "Room A"));
+        }
+        String rendered = payloadLogger.render(students);
+
+        assertTrue(rendered.startsWith("[{\"id\":0,\"name\":\"Ye Win\""));
+        assertTrue(rendered.endsWith("...(truncated)"));
+        assertEquals(100 + "...(truncated)".length(), rendered.length());
+    }
+
+    @Test
+    void secretHeadersAreRedacted() {
+        PayloadLogger payloadLogger = new PayloadLogger(new JsonCodec(new ObjectMapper()), new PayloadLoggingConfig());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBasicAuth("username", "password");
+
+        assertEquals("{Content-Type=[application/json], Authorization=[******]}", payloadLogger.redact(headers));
+    }
+}
@@ -0,0 +1,29 @@
+package pers.yewin.restapisamplecallerservice.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TraceContextTest {
+
+    @Test
+    void childSpanContinuesTraceOfIncomingTraceparent() {
+        TraceContext incoming = TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        TraceContext child = incoming.child();
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", child.getTraceId());
+        assertEquals("00f067aa0ba902b7", child.getParentSpanId());
+        assertNotEquals(incoming.getSpanId(), child.getSpanId());
+        assertEquals("00-4bf92f3577b34da6a3ce929d0e0e4736-" + child.getSpanId() + "-01", child.toTraceparent());
+    }
+
+    @Test
+    void invalidTraceparentIsIgnored() {
+        assertNull(TraceContext.parse(null));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7"));
+        assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01"));
+    }
+}